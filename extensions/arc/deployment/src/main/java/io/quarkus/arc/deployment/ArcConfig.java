@@ -220,7 +220,8 @@ public interface ArcConfig {
 
     /**
      * If set to {@code true}, the container should try to optimize the contexts for some of the scopes. If set to {@code auto}
-     * then optimize the contexts if there's less than 1000 beans in the application. If set to {@code false} do not optimize
+     * then optimize the contexts if there's less than 1000 {@link jakarta.enterprise.context.ApplicationScoped} and
+     * {@link jakarta.enterprise.context.RequestScoped} beans in the application. If set to {@code false} do not optimize
      * the contexts.
      * <p>
      * Typically, some implementation parts of the context for {@link jakarta.enterprise.context.ApplicationScoped} could be
@@ -52,6 +52,7 @@
 import io.quarkus.arc.processor.BeanProcessor;
 import io.quarkus.arc.processor.BeanRegistrar;
 import io.quarkus.arc.processor.BeanResolver;
+import io.quarkus.arc.processor.BuiltinScope;
 import io.quarkus.arc.processor.BytecodeTransformer;
 import io.quarkus.arc.processor.ContextConfigurator;
 import io.quarkus.arc.processor.ContextRegistrar;
@@ -401,9 +402,16 @@ public boolean test(BeanDeployment deployment) {
                     case FALSE:
                         return false;
                     case AUTO:
-                        // Optimize the context if there is less than 1000 beans in the app
+                        // Optimize the contexts if there is less than 1000 application/request scoped beans in the app
+                        // The size of the generated ContextInstances depends on the number of beans with the given scope
                         // Note that removed beans are excluded
-                        return deployment.getBeans().size() < 1000;
+                        long optimizedBeans = 0;
+                        for (BeanInfo bean : deployment.getBeans()) {
+                            if (BuiltinScope.APPLICATION.is(bean.getScope()) || BuiltinScope.REQUEST.is(bean.getScope())) {
+                                optimizedBeans++;
+                            }
+                        }
+                        return optimizedBeans < 1000;
                     default:
                         throw new IllegalArgumentException("Unexpected value: " + arcConfig.optimizeContexts());
                 }
@@ -0,0 +1,68 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Tests the bulk {@link Cache#getAll(Set, java.util.function.Function)} method of the Caffeine cache.
+ */
+public class GetAllTest {
+
+    private static final String CACHE_NAME = "test-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().withEmptyApplication();
+
+    @CacheName(CACHE_NAME)
+    Cache cache;
+
+    @Test
+    public void testGetAll() {
+        cache.get("a", k -> "A").await().indefinitely();
+
+        List<Set<String>> loadedKeys = new ArrayList<>();
+        Map<String, String> values = cache.<String, String> getAll(Set.of("a", "b", "c"), keys -> {
+            loadedKeys.add(keys);
+            Map<String, String> result = new HashMap<>();
+            result.put("b", "B");
+            // no value is returned for "c"
+            return result;
+        }).await().indefinitely();
+
+        assertEquals(Map.of("a", "A", "b", "B"), values);
+        // the value loader is only invoked once, with the missing keys
+        assertEquals(List.of(Set.of("b", "c")), loadedKeys);
+
+        // "b" is now cached while "c" is still missing
+        values = cache.<String, String> getAll(Set.of("b", "c"), keys -> {
+            loadedKeys.add(keys);
+            return Map.of("c", "C");
+        }).await().indefinitely();
+
+        assertEquals(Map.of("b", "B", "c", "C"), values);
+        assertEquals(List.of(Set.of("b", "c"), Set.of("c")), loadedKeys);
+    }
+
+    @Test
+    public void testGetAllFailure() {
+        assertThrows(IllegalStateException.class, () -> cache.<String, String> getAll(Set.of("d", "e"), keys -> {
+            throw new IllegalStateException();
+        }).await().indefinitely());
+        // nothing is cached when the value loader fails
+        assertEquals(Map.of("d", "D"), cache.<String, String> getAll(Set.of("d"), keys -> Map.of("d", "D"))
+                .await().indefinitely());
+    }
+}
@@ -0,0 +1,208 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.cache.Cache;
+import io.quarkus.cache.CacheName;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.common.vertx.VertxContext;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+/**
+ * Tests the stale-while-revalidate behavior of the {@code refresh-after-write} configuration.
+ */
+public class RefreshAfterWriteTest {
+
+    private static final String CACHE_NAME = "test-cache";
+    private static final String FAILING_CACHE_NAME = "failing-cache";
+    private static final String BULK_CACHE_NAME = "bulk-cache";
+    private static final String CONTEXT_CACHE_NAME = "context-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().withApplicationRoot((jar) -> jar
+            .addAsResource(new StringAsset("quarkus.cache.caffeine.\"" + CACHE_NAME + "\".refresh-after-write=100ms\n"
+                    + "quarkus.cache.caffeine.\"" + FAILING_CACHE_NAME + "\".refresh-after-write=500ms\n"
+                    + "quarkus.cache.caffeine.\"" + BULK_CACHE_NAME + "\".refresh-after-write=100ms\n"
+                    + "quarkus.cache.caffeine.\"" + CONTEXT_CACHE_NAME + "\".refresh-after-write=100ms"),
+                    "application.properties")
+            .addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @CacheName(BULK_CACHE_NAME)
+    Cache bulkCache;
+
+    @Inject
+    Vertx vertx;
+
+    @Test
+    public void testRefresh() throws InterruptedException {
+        // First call: the value is computed synchronously.
+        assertEquals(1, cachedService.cachedMethod("foo"));
+        assertEquals(1, cachedService.cachedMethod("foo"));
+
+        Thread.sleep(200L);
+
+        // The entry is stale: the stale value is served while a refresh is triggered in the background.
+        assertEquals(1, cachedService.cachedMethod("foo"));
+
+        // Eventually, the refreshed value is served.
+        long deadline = System.currentTimeMillis() + 5000L;
+        int value = 1;
+        while (value == 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+            value = cachedService.cachedMethod("foo");
+        }
+        assertEquals(2, value);
+        assertTrue(cachedService.getInvocations() >= 2);
+    }
+
+    @Test
+    public void testFailedRefreshIsNotRetriedOnEveryRead() throws InterruptedException {
+        assertEquals(1, cachedService.failingOnRefresh("foo"));
+
+        Thread.sleep(600L);
+
+        // The first stale read triggers a refresh which fails, the following reads must not trigger other refreshes
+        // until the refresh-after-write duration elapsed again.
+        for (int i = 0; i < 20; i++) {
+            assertEquals(1, cachedService.failingOnRefresh("foo"));
+            Thread.sleep(10L);
+        }
+        assertEquals(2, cachedService.getFailingInvocations());
+    }
+
+    @Test
+    public void testRefreshAll() throws InterruptedException {
+        AtomicInteger invocations = new AtomicInteger();
+        Function<Set<String>, Map<String, Integer>> valueLoader = keys -> {
+            int value = invocations.incrementAndGet();
+            Map<String, Integer> values = new HashMap<>();
+            for (String key : keys) {
+                values.put(key, value);
+            }
+            return values;
+        };
+        assertEquals(Map.of("a", 1, "b", 1), bulkCache.getAll(Set.of("a", "b"), valueLoader).await().indefinitely());
+
+        Thread.sleep(200L);
+
+        // The stale values are served while both keys are refreshed in the background with a single value loader call.
+        assertEquals(Map.of("a", 1, "b", 1), bulkCache.getAll(Set.of("a", "b"), valueLoader).await().indefinitely());
+        long deadline = System.currentTimeMillis() + 5000L;
+        Map<String, Integer> values = Map.of();
+        while (!values.equals(Map.of("a", 2, "b", 2)) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+            values = bulkCache.getAll(Set.of("a", "b"), valueLoader).await().indefinitely();
+        }
+        assertEquals(Map.of("a", 2, "b", 2), values);
+    }
+
+    @Test
+    public void testRefreshDoesNotRunOnTheCallerContext() throws Exception {
+        Context callerContext = VertxContext.createNewDuplicatedContext(vertx.getOrCreateContext());
+        assertEquals(1, callWithRequestContext(callerContext));
+        assertTrue(cachedService.getRequestContextActive().get(0));
+        assertEquals(callerContext, cachedService.getVertxContexts().get(0));
+
+        Thread.sleep(200L);
+
+        assertEquals(1, callWithRequestContext(callerContext));
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (cachedService.getRequestContextActive().size() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10L);
+        }
+        // the refresh outlives the request which triggered it
+        assertEquals(2, cachedService.getRequestContextActive().size());
+        assertFalse(cachedService.getRequestContextActive().get(1));
+        assertNotNull(cachedService.getVertxContexts().get(1));
+        assertNotEquals(callerContext, cachedService.getVertxContexts().get(1));
+    }
+
+    private int callWithRequestContext(Context context) throws Exception {
+        return context.executeBlocking(new Callable<Integer>() {
+            @Override
+            public Integer call() {
+                ManagedContext requestContext = Arc.container().requestContext();
+                requestContext.activate();
+                try {
+                    return cachedService.contextAwareMethod("foo");
+                } finally {
+                    requestContext.terminate();
+                }
+            }
+        }).toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+        private final AtomicInteger failingInvocations = new AtomicInteger();
+        private final List<Boolean> requestContextActive = new CopyOnWriteArrayList<>();
+        private final List<Context> vertxContexts = new CopyOnWriteArrayList<>();
+
+        @CacheResult(cacheName = CACHE_NAME)
+        public int cachedMethod(String key) {
+            return invocations.incrementAndGet();
+        }
+
+        @CacheResult(cacheName = FAILING_CACHE_NAME)
+        public int failingOnRefresh(String key) {
+            int invocation = failingInvocations.incrementAndGet();
+            if (invocation > 1) {
+                throw new IllegalStateException("Refresh failure");
+            }
+            return invocation;
+        }
+
+        @CacheResult(cacheName = CONTEXT_CACHE_NAME)
+        public int contextAwareMethod(String key) {
+            requestContextActive.add(Arc.container().requestContext().isActive());
+            vertxContexts.add(Vertx.currentContext());
+            return requestContextActive.size();
+        }
+
+        public int getInvocations() {
+            return invocations.get();
+        }
+
+        public int getFailingInvocations() {
+            return failingInvocations.get();
+        }
+
+        public List<Boolean> getRequestContextActive() {
+            return requestContextActive;
+        }
+
+        public List<Context> getVertxContexts() {
+            return vertxContexts;
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package io.quarkus.cache;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -55,6 +60,52 @@ public interface Cache {
      */
     <K, V> Uni<V> getAsync(K key, Function<K, Uni<V>> valueLoader);
 
+    /**
+     * Returns a lazy asynchronous action that will emit the cache values identified by {@code keys}, obtaining the values
+     * which are not already cached from {@code valueLoader}. Implementations should invoke {@code valueLoader} at most once
+     * with all the missing keys so that they can be computed in bulk. The keys for which {@code valueLoader} does not return
+     * a value and the keys associated with a {@code null} value are not part of the emitted map.
+     * <p>
+     * The default implementation falls back to one {@link #get(Object, Function)} call per key, each missing key being
+     * computed with its own {@code valueLoader} invocation.
+     *
+     * @param <K> cache key type
+     * @param <V> cache value type
+     * @param keys cache keys
+     * @param valueLoader function used to compute the cache values of the keys which are not already associated with a value
+     * @return a lazy asynchronous action that will emit the cache values, keyed by cache key
+     * @throws NullPointerException if one of the keys is {@code null}
+     * @throws CacheException if an exception is thrown during a cache value computation
+     */
+    default <K, V> Uni<Map<K, V>> getAll(Set<K> keys, Function<Set<K>, Map<K, V>> valueLoader) {
+        if (keys.isEmpty()) {
+            return Uni.createFrom().item(Map.of());
+        }
+        List<Uni<V>> values = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            values.add(get(key, new Function<K, V>() {
+                @Override
+                public V apply(K k) {
+                    return valueLoader.apply(Set.of(k)).get(k);
+                }
+            }));
+        }
+        return Uni.join().all(values).andFailFast().map(new Function<List<V>, Map<K, V>>() {
+            @Override
+            public Map<K, V> apply(List<V> list) {
+                Map<K, V> result = new HashMap<>();
+                int i = 0;
+                for (K key : keys) {
+                    V value = list.get(i++);
+                    if (value != null) {
+                        result.put(key, value);
+                    }
+                }
+                return result;
+            }
+        });
+    }
+
     /**
      * Removes the cache entry identified by {@code key} from the cache. If the key does not identify any cache entry, nothing
      * will happen.
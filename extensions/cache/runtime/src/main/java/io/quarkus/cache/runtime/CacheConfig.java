@@ -75,6 +75,18 @@ interface CaffeineCacheConfig {
              */
             Optional<Duration> expireAfterAccess();
 
+            /**
+             * Specifies that each entry should be refreshed once a fixed duration has elapsed after the entry's creation, or the
+             * most recent replacement of its value. The refresh is triggered by the first read of the entry after that duration
+             * and is performed asynchronously by a single loader while the stale value keeps being served to the callers. If the
+             * refresh fails, the stale value is kept and the next refresh is triggered by the first read after another
+             * refresh-after-write duration.
+             * <p>
+             * This should be used in combination with a longer {@code expire-after-write} so that rarely used entries still
+             * expire.
+             */
+            Optional<Duration> refreshAfterWrite();
+
             /**
              * Whether or not metrics are recorded if the application depends on the Micrometer extension. Setting this
              * value to {@code true} will enable the accumulation of cache stats inside Caffeine.
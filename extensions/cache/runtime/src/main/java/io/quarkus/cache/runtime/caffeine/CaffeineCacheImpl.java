@@ -1,12 +1,18 @@
 package io.quarkus.cache.runtime.caffeine;
 
 import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -25,6 +31,7 @@
 import io.quarkus.cache.runtime.AbstractCache;
 import io.quarkus.cache.runtime.NullValueConverter;
 import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
 import io.vertx.core.Context;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
@@ -44,6 +51,7 @@ public class CaffeineCacheImpl extends AbstractCache implements CaffeineCache {
     private final CaffeineCacheInfo cacheInfo;
     private final StatsCounter statsCounter;
     private final boolean recordStats;
+    private final long refreshAfterWriteNanos;
 
     public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         this.cacheInfo = cacheInfo;
@@ -60,6 +68,7 @@ public CaffeineCacheImpl(CaffeineCacheInfo cacheInfo, boolean recordStats) {
         if (cacheInfo.expireAfterAccess != null) {
             builder.expireAfterAccess(cacheInfo.expireAfterAccess);
         }
+        this.refreshAfterWriteNanos = cacheInfo.refreshAfterWrite == null ? -1 : cacheInfo.refreshAfterWrite.toNanos();
         this.recordStats = recordStats;
         if (recordStats) {
             LOGGER.tracef("Recording Caffeine stats for cache [%s]", cacheInfo.name);
@@ -115,12 +124,42 @@ public CompletionStage<V> get() {
                                     @Override
                                     public CompletableFuture<Object> apply(Object key) {
                                         recorder.onValueAbsent();
-                                        return valueLoader.apply((K) key)
-                                                .map(TO_CACHE_VALUE)
-                                                .subscribeAsCompletionStage();
+                                        Uni<Object> cacheValue = valueLoader.apply((K) key).map(TO_CACHE_VALUE);
+                                        if (refreshAfterWriteNanos < 0) {
+                                            return cacheValue.subscribeAsCompletionStage();
+                                        }
+                                        RefreshableCacheValue refreshableCacheValue = new RefreshableCacheValue(
+                                                refreshAfterWriteNanos);
+                                        cacheValue.subscribe().with(new Consumer<Object>() {
+                                            @Override
+                                            public void accept(Object value) {
+                                                refreshableCacheValue.complete(value);
+                                            }
+                                        }, new Consumer<Throwable>() {
+                                            @Override
+                                            public void accept(Throwable failure) {
+                                                refreshableCacheValue.completeExceptionally(failure);
+                                            }
+                                        });
+                                        return refreshableCacheValue;
                                     }
                                 });
                         recorder.doRecord(key);
+                        if (shouldRefresh(result)) {
+                            // the stale value is returned while the refresh happens in the background
+                            runRefresh(new Runnable() {
+                                @Override
+                                public void run() {
+                                    refresh(key, (RefreshableCacheValue) result,
+                                            Uni.createFrom().deferred(new Supplier<Uni<? extends V>>() {
+                                                @Override
+                                                public Uni<? extends V> get() {
+                                                    return valueLoader.apply(key);
+                                                }
+                                            }).map(TO_CACHE_VALUE));
+                                }
+                            }, false);
+                        }
                         return result;
                     }
                 })
@@ -170,6 +209,19 @@ public void handle(Void ignored) {
                 });
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Set<K> keys, Function<Set<K>, Map<K, V>> valueLoader) {
+        for (K key : keys) {
+            Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        return Uni.createFrom().completionStage(new Supplier<CompletionStage<Map<K, V>>>() {
+            @Override
+            public CompletionStage<Map<K, V>> get() {
+                return getAllFromCaffeine(keys, valueLoader);
+            }
+        });
+    }
+
     @Override
     public <V> CompletableFuture<V> getIfPresent(Object key) {
         Objects.requireNonNull(key, NULL_KEYS_NOT_SUPPORTED_MSG);
@@ -208,7 +260,8 @@ public V apply(Object value) {
      * @throws CacheException if an exception is thrown during the cache value computation
      */
     private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> valueLoader) {
-        CompletableFuture<Object> newCacheValue = new CompletableFuture<>();
+        CompletableFuture<Object> newCacheValue = refreshAfterWriteNanos < 0 ? new CompletableFuture<>()
+                : new RefreshableCacheValue(refreshAfterWriteNanos);
         CompletableFuture<Object> existingCacheValue = cache.asMap().putIfAbsent(key, newCacheValue);
         if (existingCacheValue == null) {
             statsCounter.recordMisses(1);
@@ -223,10 +276,214 @@ private <K, V> CompletableFuture<Object> getFromCaffeine(K key, Function<K, V> v
         } else {
             LOGGER.tracef("Key [%s] found in cache [%s]", key, cacheInfo.name);
             statsCounter.recordHits(1);
+            if (shouldRefresh(existingCacheValue)) {
+                // the value loader may be blocking so the refresh is offloaded to a worker thread
+                runRefresh(new Runnable() {
+                    @Override
+                    public void run() {
+                        refresh(key, (RefreshableCacheValue) existingCacheValue, Uni.createFrom().item(new Supplier<Object>() {
+                            @Override
+                            public Object get() {
+                                return NullValueConverter.toCacheValue(valueLoader.apply(key));
+                            }
+                        }));
+                    }
+                }, true);
+            }
             return unwrapCacheValueOrThrowable(existingCacheValue);
         }
     }
 
+    /**
+     * Returns a {@link CompletableFuture} holding the cache values identified by {@code keys}. The values which are not
+     * already cached are computed synchronously on the calling thread with a single {@code valueLoader} invocation.
+     *
+     * @param keys cache keys
+     * @param valueLoader function used to compute the cache values of the keys which are not already associated with a value
+     * @return a {@link CompletableFuture} holding the non-null cache values, keyed by cache key
+     */
+    private <K, V> CompletableFuture<Map<K, V>> getAllFromCaffeine(Set<K> keys, Function<Set<K>, Map<K, V>> valueLoader) {
+        Map<K, CompletableFuture<Object>> cacheValues = new HashMap<>(keys.size());
+        Map<K, CompletableFuture<Object>> newCacheValues = new HashMap<>();
+        Map<K, RefreshableCacheValue> staleCacheValues = new HashMap<>();
+        for (K key : keys) {
+            CompletableFuture<Object> newCacheValue = refreshAfterWriteNanos < 0 ? new CompletableFuture<>()
+                    : new RefreshableCacheValue(refreshAfterWriteNanos);
+            CompletableFuture<Object> existingCacheValue = cache.asMap().putIfAbsent(key, newCacheValue);
+            if (existingCacheValue == null) {
+                newCacheValues.put(key, newCacheValue);
+                cacheValues.put(key, newCacheValue);
+            } else {
+                cacheValues.put(key, existingCacheValue);
+                if (shouldRefresh(existingCacheValue)) {
+                    staleCacheValues.put(key, (RefreshableCacheValue) existingCacheValue);
+                }
+            }
+        }
+        if (!staleCacheValues.isEmpty()) {
+            // the stale values are returned while they are refreshed in the background with a single value loader call
+            runRefresh(new Runnable() {
+                @Override
+                public void run() {
+                    refreshAll(staleCacheValues, Uni.createFrom().item(new Supplier<Map<K, V>>() {
+                        @Override
+                        public Map<K, V> get() {
+                            return valueLoader.apply(Collections.unmodifiableSet(staleCacheValues.keySet()));
+                        }
+                    }));
+                }
+            }, true);
+        }
+        statsCounter.recordHits(keys.size() - newCacheValues.size());
+        if (!newCacheValues.isEmpty()) {
+            statsCounter.recordMisses(newCacheValues.size());
+            try {
+                Map<K, V> values = valueLoader.apply(Collections.unmodifiableSet(newCacheValues.keySet()));
+                for (Map.Entry<K, CompletableFuture<Object>> entry : newCacheValues.entrySet()) {
+                    if (values.containsKey(entry.getKey())) {
+                        entry.getValue().complete(NullValueConverter.toCacheValue(values.get(entry.getKey())));
+                    } else {
+                        // The value loader did not return any value for this key so nothing is cached.
+                        cache.asMap().remove(entry.getKey(), entry.getValue());
+                        entry.getValue().complete(NullValueConverter.toCacheValue(null));
+                    }
+                }
+            } catch (Throwable t) {
+                for (Map.Entry<K, CompletableFuture<Object>> entry : newCacheValues.entrySet()) {
+                    cache.asMap().remove(entry.getKey(), entry.getValue());
+                    entry.getValue().complete(new CaffeineComputationThrowable(t));
+                }
+            }
+        }
+        Map<K, CompletableFuture<Object>> unwrappedValues = new HashMap<>(cacheValues.size());
+        for (Map.Entry<K, CompletableFuture<Object>> entry : cacheValues.entrySet()) {
+            unwrappedValues.put(entry.getKey(), unwrapCacheValueOrThrowable(entry.getValue()));
+        }
+        return CompletableFuture.allOf(unwrappedValues.values().toArray(new CompletableFuture[0]))
+                .thenApply(new Function<Void, Map<K, V>>() {
+                    @Override
+                    public Map<K, V> apply(Void ignored) {
+                        Map<K, V> result = new HashMap<>(unwrappedValues.size());
+                        for (Map.Entry<K, CompletableFuture<Object>> entry : unwrappedValues.entrySet()) {
+                            Object value = entry.getValue().join();
+                            if (value != null) {
+                                result.put(entry.getKey(), cast(value));
+                            }
+                        }
+                        return result;
+                    }
+                });
+    }
+
+    /**
+     * Returns {@code true} if the given cache value is older than the refresh-after-write duration and no other caller is
+     * already refreshing it. In that case, the caller is responsible for the refresh.
+     */
+    private boolean shouldRefresh(CompletionStage<?> cacheValue) {
+        if (refreshAfterWriteNanos < 0 || !(cacheValue instanceof RefreshableCacheValue)) {
+            return false;
+        }
+        RefreshableCacheValue refreshableCacheValue = (RefreshableCacheValue) cacheValue;
+        return refreshableCacheValue.isDone() && !refreshableCacheValue.isCompletedExceptionally()
+                && !(refreshableCacheValue.getNow(null) instanceof CaffeineComputationThrowable)
+                && refreshableCacheValue.isRefreshDue()
+                && refreshableCacheValue.startRefresh();
+    }
+
+    /**
+     * Runs a refresh in the background. The refresh outlives the request which triggered it, so it neither runs on the
+     * duplicated context of that request nor sees its request context. When the caller runs on a Vert.x context, the
+     * refresh runs on a new duplicated context, on a worker thread if the value loader may be blocking. Otherwise, it runs
+     * on the default worker pool.
+     */
+    private static void runRefresh(Runnable refresh, boolean blocking) {
+        Context context = Vertx.currentContext();
+        if (context == null) {
+            Infrastructure.getDefaultWorkerPool().execute(refresh);
+            return;
+        }
+        // duplicating a duplicated context copies its local data, which holds the request context
+        Context refreshContext = ((ContextInternal) context).unwrap().duplicate();
+        if (blocking) {
+            refreshContext.executeBlocking(new Callable<Void>() {
+                @Override
+                public Void call() {
+                    refresh.run();
+                    return null;
+                }
+            }, false);
+        } else {
+            refreshContext.runOnContext(new Handler<Void>() {
+                @Override
+                public void handle(Void ignored) {
+                    refresh.run();
+                }
+            });
+        }
+    }
+
+    /**
+     * Replaces the stale cache value once {@code refreshedCacheValue} is available. If the entry was invalidated or replaced
+     * in the meantime, the refreshed value is discarded. If the refresh fails, the stale value is kept and the next refresh
+     * is attempted after another refresh-after-write duration.
+     */
+    private void refresh(Object key, RefreshableCacheValue staleCacheValue, Uni<Object> refreshedCacheValue) {
+        LOGGER.tracef("Refreshing key [%s] in cache [%s]", key, cacheInfo.name);
+        long start = System.nanoTime();
+        refreshedCacheValue.subscribe().with(new Consumer<Object>() {
+            @Override
+            public void accept(Object value) {
+                statsCounter.recordLoadSuccess(System.nanoTime() - start);
+                replaceStaleCacheValue(key, staleCacheValue, value);
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable failure) {
+                statsCounter.recordLoadFailure(System.nanoTime() - start);
+                LOGGER.warnf(failure, "Unable to refresh key [%s] in cache [%s]", key, cacheInfo.name);
+                staleCacheValue.refreshFailed();
+            }
+        });
+    }
+
+    /**
+     * Same as {@link #refresh(Object, RefreshableCacheValue, Uni)} for several keys refreshed at once. The keys for which
+     * no value is returned keep their stale value.
+     */
+    private <K, V> void refreshAll(Map<K, RefreshableCacheValue> staleCacheValues, Uni<Map<K, V>> refreshedValues) {
+        LOGGER.tracef("Refreshing keys %s in cache [%s]", staleCacheValues.keySet(), cacheInfo.name);
+        long start = System.nanoTime();
+        refreshedValues.subscribe().with(new Consumer<Map<K, V>>() {
+            @Override
+            public void accept(Map<K, V> values) {
+                statsCounter.recordLoadSuccess(System.nanoTime() - start);
+                for (Map.Entry<K, RefreshableCacheValue> entry : staleCacheValues.entrySet()) {
+                    if (values.containsKey(entry.getKey())) {
+                        replaceStaleCacheValue(entry.getKey(), entry.getValue(),
+                                NullValueConverter.toCacheValue(values.get(entry.getKey())));
+                    } else {
+                        entry.getValue().refreshFailed();
+                    }
+                }
+            }
+        }, new Consumer<Throwable>() {
+            @Override
+            public void accept(Throwable failure) {
+                statsCounter.recordLoadFailure(System.nanoTime() - start);
+                LOGGER.warnf(failure, "Unable to refresh keys %s in cache [%s]", staleCacheValues.keySet(), cacheInfo.name);
+                for (RefreshableCacheValue staleCacheValue : staleCacheValues.values()) {
+                    staleCacheValue.refreshFailed();
+                }
+            }
+        });
+    }
+
+    private void replaceStaleCacheValue(Object key, RefreshableCacheValue staleCacheValue, Object value) {
+        RefreshableCacheValue newCacheValue = new RefreshableCacheValue(refreshAfterWriteNanos);
+        newCacheValue.complete(value);
+        cache.asMap().replace(key, staleCacheValue, newCacheValue);
+    }
+
     private CompletableFuture<Object> unwrapCacheValueOrThrowable(CompletableFuture<Object> cacheValue) {
         return cacheValue.thenApply(new Function<>() {
             @Override
@@ -351,6 +608,47 @@ private <V> Function<V, V> fromCacheValue() {
         return (Function<V, V>) FROM_CACHE_VALUE;
     }
 
+    /**
+     * A cache value which remembers when it was written, used when the cache is configured with a refresh-after-write
+     * duration.
+     */
+    private static final class RefreshableCacheValue extends CompletableFuture<Object> {
+
+        private static final AtomicIntegerFieldUpdater<RefreshableCacheValue> REFRESHING_UPDATER = AtomicIntegerFieldUpdater
+                .newUpdater(RefreshableCacheValue.class, "refreshing");
+
+        private final long refreshAfterWriteNanos;
+
+        // set when the value is available, not when its computation starts, and postponed when a refresh fails
+        private volatile long refreshTime;
+
+        private volatile int refreshing;
+
+        RefreshableCacheValue(long refreshAfterWriteNanos) {
+            this.refreshAfterWriteNanos = refreshAfterWriteNanos;
+        }
+
+        @Override
+        public boolean complete(Object value) {
+            refreshTime = System.nanoTime() + refreshAfterWriteNanos;
+            return super.complete(value);
+        }
+
+        boolean isRefreshDue() {
+            return System.nanoTime() - refreshTime >= 0;
+        }
+
+        boolean startRefresh() {
+            return REFRESHING_UPDATER.compareAndSet(this, 0, 1);
+        }
+
+        void refreshFailed() {
+            // the refresh is retried after another refresh-after-write duration instead of on every read
+            refreshTime = System.nanoTime() + refreshAfterWriteNanos;
+            refreshing = 0;
+        }
+    }
+
     private interface StatsRecorder {
 
         void onValueAbsent();
@@ -83,6 +83,7 @@ public static String[] typesNeedingConstructorsRegistered() {
                 "com.github.benmanes.caffeine.cache.PSMS",
                 "com.github.benmanes.caffeine.cache.PSW",
                 "com.github.benmanes.caffeine.cache.PSMW",
+                "com.github.benmanes.caffeine.cache.PSAMS",
                 "com.github.benmanes.caffeine.cache.PSAMW",
                 "com.github.benmanes.caffeine.cache.PSAWMW",
                 "com.github.benmanes.caffeine.cache.PSWMS",
@@ -9,6 +9,7 @@
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -21,6 +22,7 @@
 import io.grpc.ServerCall;
 import io.grpc.ServerCallHandler;
 import io.grpc.ServerInterceptor;
+import io.grpc.Status;
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.InjectableContext;
 import io.quarkus.arc.InjectableContext.ContextState;
@@ -98,19 +100,9 @@ public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, Re
             // context should always be active here
             // it is initialized by io.quarkus.grpc.runtime.supports.context.GrpcRequestContextGrpcInterceptor
             // that should always be called before this interceptor
-            ContextState state = requestContext.getState();
-            VirtualReplayListener<ReqT> replay = new VirtualReplayListener<>(state);
-            virtualThreadExecutor.execute(() -> {
-                ServerCall.Listener<ReqT> listener;
-                try {
-                    requestContext.activate(state);
-                    listener = next.startCall(call, headers);
-                } finally {
-                    requestContext.deactivate();
-                }
-                replay.setDelegate(listener);
-            });
-            return replay;
+            VirtualThreadListener<ReqT> listener = new VirtualThreadListener<>(requestContext.getState(), requestContext);
+            listener.start(call, headers, next);
+            return listener;
         } else if (isBlocking) {
             final ManagedContext requestContext = getRequestContext();
             // context should always be active here
@@ -245,98 +237,122 @@ public void onReady() {
     }
 
     /**
-     * Stores the incoming events until the listener is injected.
-     * When injected, replay the events.
-     * <p>
-     * Note that event must be executed in order, explaining why incomingEvents
-     * are executed sequentially
+     * Executes the start of the call and the incoming events sequentially on a virtual thread.
      * <p>
-     * This replay listener is only used for virtual threads.
+     * The tasks are queued and drained by a single virtual thread at a time: the thread queuing a task when no task is
+     * pending starts a new virtual thread, which executes the pending tasks until there are none left. The pending counter
+     * orders the tasks of the successive virtual threads, so the listener is not locked while a task is executed, which
+     * would pin the virtual thread to its carrier thread.
      */
-    private class VirtualReplayListener<ReqT> extends ServerCall.Listener<ReqT> {
+    private class VirtualThreadListener<ReqT> extends ServerCall.Listener<ReqT> implements Runnable {
         private final InjectableContext.ContextState requestContextState;
+        private final ManagedContext requestContext;
+        private final ClassLoader tccl;
 
-        // exclusive to event loop context
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingTasks = new AtomicInteger();
+
+        // only accessed by the tasks, which are executed sequentially
         private ServerCall.Listener<ReqT> delegate;
-        private final Queue<Consumer<ServerCall.Listener<ReqT>>> incomingEvents = new ConcurrentLinkedQueue<>();
-        private volatile boolean isConsumingFromIncomingEvents = false;
 
-        private VirtualReplayListener(InjectableContext.ContextState requestContextState) {
+        private VirtualThreadListener(InjectableContext.ContextState requestContextState, ManagedContext requestContext) {
             this.requestContextState = requestContextState;
+            this.requestContext = requestContext;
+            this.tccl = devMode ? Thread.currentThread().getContextClassLoader() : null;
         }
 
-        /**
-         * Must be called from within the event loop context
-         * If there are deferred events will start executing them in the shared worker context
-         *
-         * @param delegate the original
-         */
-        void setDelegate(ServerCall.Listener<ReqT> delegate) {
-            this.delegate = delegate;
-            if (!this.isConsumingFromIncomingEvents) {
-                Consumer<ServerCall.Listener<ReqT>> consumer = incomingEvents.poll();
-                if (consumer != null) {
-                    executeVirtualWithRequestContext(consumer);
+        <RespT> void start(ServerCall<ReqT, RespT> call, Metadata headers, ServerCallHandler<ReqT, RespT> next) {
+            schedule(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        requestContext.activate(requestContextState);
+                        try {
+                            delegate = next.startCall(call, headers);
+                        } finally {
+                            requestContext.deactivate();
+                        }
+                    } catch (RuntimeException e) {
+                        log.error("Unable to start the gRPC call " + call.getMethodDescriptor().getFullMethodName(), e);
+                        call.close(Status.fromThrowable(e), new Metadata());
+                    }
                 }
-            }
+            });
         }
 
-        private void scheduleOrEnqueue(Consumer<ServerCall.Listener<ReqT>> consumer) {
-            if (this.delegate != null && !this.isConsumingFromIncomingEvents) {
-                executeVirtualWithRequestContext(consumer);
-            } else {
-                incomingEvents.add(consumer);
+        private void scheduleEvent(Consumer<ServerCall.Listener<ReqT>> consumer) {
+            final Context grpcContext = Context.current();
+            schedule(new Runnable() {
+                @Override
+                public void run() {
+                    if (delegate == null) {
+                        // the call could not be started
+                        return;
+                    }
+                    Context previous = grpcContext.attach();
+                    try {
+                        requestContext.activate(requestContextState);
+                        try {
+                            consumer.accept(delegate);
+                        } finally {
+                            requestContext.deactivate();
+                        }
+                    } finally {
+                        grpcContext.detach(previous);
+                    }
+                }
+            });
+        }
+
+        private void schedule(Runnable task) {
+            tasks.add(task);
+            if (pendingTasks.getAndIncrement() == 0) {
+                virtualThreadExecutor.execute(this);
             }
         }
 
-        private void executeVirtualWithRequestContext(Consumer<ServerCall.Listener<ReqT>> consumer) {
-            final Context grpcContext = Context.current();
-            Callable<Void> blockingHandler = new BlockingExecutionHandler<>(consumer, grpcContext, delegate,
-                    requestContextState, getRequestContext(), this);
-            if (devMode) {
-                blockingHandler = new DevModeBlockingExecutionHandler(Thread.currentThread().getContextClassLoader(),
-                        blockingHandler);
+        @Override
+        public void run() {
+            ClassLoader originalTccl = Thread.currentThread().getContextClassLoader();
+            if (tccl != null) {
+                Thread.currentThread().setContextClassLoader(tccl);
             }
-            this.isConsumingFromIncomingEvents = true;
-            var finalBlockingHandler = blockingHandler;
-            virtualThreadExecutor.execute(() -> {
-                try {
-                    finalBlockingHandler.call();
-                    Consumer<ServerCall.Listener<ReqT>> next = incomingEvents.poll();
-                    if (next != null) {
-                        executeVirtualWithRequestContext(next);
-                    } else {
-                        this.isConsumingFromIncomingEvents = false;
+            try {
+                do {
+                    try {
+                        tasks.poll().run();
+                    } catch (Throwable t) {
+                        log.error("Unable to execute a gRPC event on a virtual thread", t);
                     }
-                } catch (Exception e) {
-                    throw new RuntimeException(e);
-                }
-            });
+                } while (pendingTasks.decrementAndGet() != 0);
+            } finally {
+                Thread.currentThread().setContextClassLoader(originalTccl);
+            }
         }
 
         @Override
         public void onMessage(ReqT message) {
-            scheduleOrEnqueue(t -> t.onMessage(message));
+            scheduleEvent(t -> t.onMessage(message));
         }
 
         @Override
         public void onHalfClose() {
-            scheduleOrEnqueue(ServerCall.Listener::onHalfClose);
+            scheduleEvent(ServerCall.Listener::onHalfClose);
         }
 
         @Override
         public void onCancel() {
-            scheduleOrEnqueue(ServerCall.Listener::onCancel);
+            scheduleEvent(ServerCall.Listener::onCancel);
         }
 
         @Override
         public void onComplete() {
-            scheduleOrEnqueue(ServerCall.Listener::onComplete);
+            scheduleEvent(ServerCall.Listener::onComplete);
         }
 
         @Override
         public void onReady() {
-            scheduleOrEnqueue(ServerCall.Listener::onReady);
+            scheduleEvent(ServerCall.Listener::onReady);
         }
     }
 
@@ -4,9 +4,14 @@
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
@@ -27,15 +32,17 @@ class BlockingServerInterceptorTest {
 
     BlockingServerInterceptor blockingServerInterceptor;
     Vertx vertx;
+    ExecutorService virtualThreadExecutor;
 
     @BeforeEach
     void setup() {
         vertx = Vertx.vertx();
+        virtualThreadExecutor = Executors.newCachedThreadPool();
         InjectableContext.ContextState contextState = mock(InjectableContext.ContextState.class);
         ManagedContext requestContext = mock(ManagedContext.class);
         when(requestContext.getState()).thenReturn(contextState);
         blockingServerInterceptor = new BlockingServerInterceptor(vertx, Collections.singletonList("blocking"),
-                Collections.emptyList(), null, false) {
+                Collections.singletonList("virtual"), virtualThreadExecutor, false) {
             @Override
             protected boolean isExecutable() {
                 return true;
@@ -48,6 +55,12 @@ protected ManagedContext getRequestContext() {
         };
     }
 
+    @AfterEach
+    void tearDown() {
+        virtualThreadExecutor.shutdown();
+        vertx.close();
+    }
+
     @Test
     @Timeout(10)
     void testContextPropagation() throws Exception {
@@ -80,6 +93,59 @@ void testContextPropagation() throws Exception {
         }
     }
 
+    @Test
+    @Timeout(10)
+    void testVirtualThreadEventsAreOrdered() throws Exception {
+        final ServerCall serverCall = mock(ServerCall.class);
+        final OrderedServerCallHandler serverCallHandler = new OrderedServerCallHandler();
+        final MethodDescriptor methodDescriptor = mock(MethodDescriptor.class);
+        when(methodDescriptor.getFullMethodName()).thenReturn("my-service/virtual");
+        when(serverCall.getMethodDescriptor()).thenReturn(methodDescriptor);
+
+        final Context context = Context.current().withValue(USERNAME, "my-user");
+        Context previous = context.attach();
+        try {
+            // the events are sent without waiting for the call to be started
+            final ServerCall.Listener listener = blockingServerInterceptor.interceptCall(serverCall, null, serverCallHandler);
+            for (int i = 0; i < 1000; i++) {
+                listener.onMessage(i);
+            }
+            listener.onHalfClose();
+
+            serverCallHandler.latch.await();
+            assertThat(serverCallHandler.messages).hasSize(1000);
+            for (int i = 0; i < 1000; i++) {
+                assertThat(serverCallHandler.messages.get(i)).isEqualTo(i);
+            }
+            assertThat(serverCallHandler.contextUserName).isEqualTo("my-user");
+        } finally {
+            context.detach(previous);
+        }
+    }
+
+    static class OrderedServerCallHandler implements ServerCallHandler {
+        // not synchronized, the events of a call are executed sequentially
+        final List<Object> messages = new ArrayList<>();
+        String contextUserName;
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        @Override
+        public ServerCall.Listener startCall(ServerCall serverCall, Metadata metadata) {
+            return new ServerCall.Listener() {
+                @Override
+                public void onMessage(Object message) {
+                    messages.add(message);
+                }
+
+                @Override
+                public void onHalfClose() {
+                    contextUserName = USERNAME.get();
+                    latch.countDown();
+                }
+            };
+        }
+    }
+
     static class BlockingServerCallHandler implements ServerCallHandler {
         String threadName;
         String contextUserName;
@@ -4,7 +4,10 @@
 import static org.awaitility.Awaitility.await;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CyclicBarrier;
@@ -321,6 +324,59 @@ public void testInvalidateAll() {
         assertThat(remoteCache.size()).isZero();
     }
 
+    @Test
+    public void testGetAllKeepsConcurrentWrites() {
+        Cache cache = getCache();
+        String id1 = generateId();
+        String id2 = generateId();
+        remoteCache.put(id1, "existing");
+        Map<String, String> values = awaitUni(cache.<String, String> getAll(Set.of(id1, id2), keys -> {
+            assertThat(keys).containsOnly(id2);
+            // written by another caller while the value is computed
+            remoteCache.put(id2, "concurrent");
+            return Map.of(id2, "computed");
+        }));
+        assertThat(values).containsOnly(Map.entry(id1, "existing"), Map.entry(id2, "concurrent"));
+        assertThat(remoteCache.get(id2)).isEqualTo("concurrent");
+    }
+
+    @Test
+    public void testGetAllWithParallelGet() throws Exception {
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        Cache cache = getCache();
+        String id1 = generateId();
+        String id2 = generateId();
+        Future<String> thread1 = fork(() -> cache.get(id1, key -> {
+            try {
+                barrier.await(10, TimeUnit.SECONDS);
+                barrier.await(10, TimeUnit.SECONDS);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+            return "thread1";
+        }).await().atMost(Duration.ofSeconds(10)));
+
+        // Ensure first retrieval is in lambda before continuing
+        barrier.await(10, TimeUnit.SECONDS);
+
+        AtomicInteger loadedKeys = new AtomicInteger();
+        Future<Map<String, String>> thread2 = fork(() -> cache.<String, String> getAll(Set.of(id1, id2), keys -> {
+            loadedKeys.addAndGet(keys.size());
+            Map<String, String> values = new HashMap<>();
+            for (String key : keys) {
+                values.put(key, "thread2");
+            }
+            return values;
+        }).await().atMost(Duration.ofSeconds(10)));
+
+        barrier.await(10, TimeUnit.SECONDS);
+
+        assertThat(thread1.get(10, TimeUnit.SECONDS)).isEqualTo("thread1");
+        // the key computed by the first call is awaited instead of being computed again
+        assertThat(thread2.get(10, TimeUnit.SECONDS)).containsOnly(Map.entry(id1, "thread1"), Map.entry(id2, "thread2"));
+        assertThat(loadedKeys.get()).isEqualTo(1);
+    }
+
     @Test
     public void testGetWithCompositeCacheKey() {
         Cache cache = getCache();
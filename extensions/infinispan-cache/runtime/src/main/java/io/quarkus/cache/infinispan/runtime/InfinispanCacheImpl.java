@@ -1,8 +1,11 @@
 package io.quarkus.cache.infinispan.runtime;
 
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
@@ -197,6 +200,87 @@ public void handle(Void ignored) {
         });
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Set<K> keys, Function<Set<K>, Map<K, V>> valueLoader) {
+        if (keys.isEmpty()) {
+            return Uni.createFrom().item(Map.of());
+        }
+        return Uni.createFrom().completionStage(() -> remoteCache.getAllAsync(keys).thenCompose(existing -> {
+            Map<K, V> result = new HashMap<>();
+            Set<K> missingKeys = new HashSet<>(keys);
+            for (Map.Entry<K, Object> entry : ((Map<K, Object>) existing).entrySet()) {
+                missingKeys.remove(entry.getKey());
+                V value = decodeNull(entry.getValue());
+                if (value != null) {
+                    result.put(entry.getKey(), value);
+                }
+            }
+            if (missingKeys.isEmpty()) {
+                return CompletableFuture.completedFuture(result);
+            }
+            // the keys being computed by a concurrent call are not computed again, their values are awaited instead
+            Map<K, CompletableFuture<V>> pendingValues = new HashMap<>();
+            Map<K, CompletableFuture<V>> ownValues = new HashMap<>();
+            for (K key : missingKeys) {
+                CompletableFuture<V> resultAsync = new CompletableFuture<>();
+                CompletableFuture<V> computedValue = computationResults.putIfAbsent(key, resultAsync);
+                if (computedValue != null) {
+                    pendingValues.put(key, computedValue);
+                } else {
+                    pendingValues.put(key, resultAsync);
+                    ownValues.put(key, resultAsync);
+                }
+            }
+            if (!ownValues.isEmpty()) {
+                Map<K, V> newValues;
+                try {
+                    newValues = valueLoader.apply(new HashSet<>(ownValues.keySet()));
+                } catch (Throwable t) {
+                    for (Map.Entry<K, CompletableFuture<V>> entry : ownValues.entrySet()) {
+                        entry.getValue().completeExceptionally(t);
+                        computationResults.remove(entry.getKey());
+                    }
+                    return CompletableFuture.failedFuture(t);
+                }
+                for (Map.Entry<K, CompletableFuture<V>> entry : ownValues.entrySet()) {
+                    K key = entry.getKey();
+                    CompletableFuture<V> resultAsync = entry.getValue();
+                    if (!newValues.containsKey(key)) {
+                        // the loader did not return a value for this key, nothing is cached
+                        resultAsync.complete(null);
+                        computationResults.remove(key);
+                        continue;
+                    }
+                    V newValue = newValues.get(key);
+                    // a value written concurrently by another caller wins over the new one
+                    remoteCache
+                            .putIfAbsentAsync(key, encodeNull(newValue), lifespan, TimeUnit.MILLISECONDS, maxIdle,
+                                    TimeUnit.MILLISECONDS)
+                            .whenComplete((existing, ex) -> {
+                                if (ex != null) {
+                                    resultAsync.completeExceptionally((Throwable) ex);
+                                } else if (existing == null) {
+                                    resultAsync.complete(newValue);
+                                } else {
+                                    resultAsync.complete(decodeNull(existing));
+                                }
+                                computationResults.remove(key);
+                            });
+                }
+            }
+            return CompletableFuture.allOf(pendingValues.values().toArray(new CompletableFuture[0]))
+                    .thenApply(ignored -> {
+                        for (Map.Entry<K, CompletableFuture<V>> entry : pendingValues.entrySet()) {
+                            V value = entry.getValue().join();
+                            if (value != null) {
+                                result.put(entry.getKey(), value);
+                            }
+                        }
+                        return result;
+                    });
+        }));
+    }
+
     @Override
     public Uni<Void> invalidate(Object key) {
         return Uni.createFrom().completionStage(() -> remoteCache.removeAsync(key));
@@ -1,6 +1,7 @@
 package io.quarkus.load.shedding.runtime;
 
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import jakarta.inject.Inject;
@@ -9,6 +10,11 @@
 /**
  * An overload detector based on TCP Vegas, as implemented by
  * <a href="https://github.com/Netflix/concurrency-limits/">Netflix Concurrency Limits</a>.
+ * <p>
+ * The limit is updated by at most one thread at a time. Request durations that finish
+ * while another thread is updating the limit are not waited for, they are simply not sampled.
+ * This keeps the request completion path free of lock contention, at the cost of using
+ * a subset of all requests to estimate the limit.
  */
 @Singleton
 public class OverloadDetector {
@@ -29,6 +35,9 @@ public class OverloadDetector {
     private final AtomicInteger currentRequests = new AtomicInteger();
     private volatile long currentLimit;
 
+    // guards the fields below, which are only accessed by the thread that successfully set this flag
+    private final AtomicBoolean updating = new AtomicBoolean();
+
     private long lowestRequestTime = Long.MAX_VALUE;
     private double probeCount = 0.0;
     private double probeJitter;
@@ -54,10 +63,16 @@ public void requestBegin() {
     public void requestEnd(long timeInMicros) {
         int current = currentRequests.getAndDecrement();
 
-        update(timeInMicros, current);
+        if (updating.compareAndSet(false, true)) {
+            try {
+                update(timeInMicros, current);
+            } finally {
+                updating.set(false);
+            }
+        }
     }
 
-    private synchronized void update(long requestTime, int currentRequests) {
+    private void update(long requestTime, int currentRequests) {
         probeCount++;
         if (probeFactor * probeJitter * currentLimit <= probeCount) {
             resetProbeJitter();
@@ -2,6 +2,7 @@
 
 import java.lang.management.ManagementFactory;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
@@ -29,9 +30,11 @@ public class PriorityLoadShedding {
 
     private final OperatingSystemMXBean os;
 
-    private double lastThreshold;
+    private final AtomicBoolean computingThreshold = new AtomicBoolean();
 
-    private long lastThresholdTime;
+    private volatile double lastThreshold;
+
+    private volatile long lastThresholdTime;
 
     @Inject
     PriorityLoadShedding(LoadSheddingRuntimeConfig config) {
@@ -47,8 +50,9 @@ public boolean shedLoad(Object request) {
         }
 
         long now = System.currentTimeMillis();
-        synchronized (this) {
-            if (now - lastThresholdTime > 1_000) {
+        // only one thread recomputes the threshold, others use the previous value in the meantime
+        if (now - lastThresholdTime > 1_000 && computingThreshold.compareAndSet(false, true)) {
+            try {
                 double load = os.getCpuLoad();
                 if (load < 0) {
                     lastThreshold = -1;
@@ -56,6 +60,8 @@ public boolean shedLoad(Object request) {
                     lastThreshold = max * (1.0 - load * load * load);
                 }
                 lastThresholdTime = now;
+            } finally {
+                computingThreshold.set(false);
             }
         }
         double threshold = lastThreshold;
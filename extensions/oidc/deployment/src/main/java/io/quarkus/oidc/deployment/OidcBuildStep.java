@@ -72,6 +72,8 @@
 import io.quarkus.deployment.builditem.RunTimeConfigurationDefaultBuildItem;
 import io.quarkus.deployment.builditem.RuntimeConfigSetupCompleteBuildItem;
 import io.quarkus.deployment.builditem.SystemPropertyBuildItem;
+import io.quarkus.deployment.metrics.MetricsCapabilityBuildItem;
+import io.quarkus.deployment.metrics.MetricsFactoryConsumerBuildItem;
 import io.quarkus.oidc.AuthenticationContext;
 import io.quarkus.oidc.AuthorizationCodeFlow;
 import io.quarkus.oidc.BearerTokenAuthentication;
@@ -101,6 +103,7 @@
 import io.quarkus.oidc.runtime.TenantConfigBean;
 import io.quarkus.oidc.runtime.providers.AzureAccessTokenCustomizer;
 import io.quarkus.runtime.configuration.ConfigurationException;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.security.Authenticated;
 import io.quarkus.security.runtime.SecurityConfig;
 import io.quarkus.security.spi.AdditionalSecuredMethodsBuildItem;
@@ -218,15 +221,32 @@ public void initJose4J(Jose4jRecorder recorder) {
     @Record(ExecutionTime.RUNTIME_INIT)
     public SyntheticBeanBuildItem addDefaultCacheBean(OidcConfig config,
             OidcRecorder recorder,
-            CoreVertxBuildItem vertxBuildItem) {
+            CoreVertxBuildItem vertxBuildItem,
+            Optional<MetricsCapabilityBuildItem> metricsCapability) {
         return SyntheticBeanBuildItem.configure(DefaultTokenIntrospectionUserInfoCache.class).unremovable()
                 .types(DefaultTokenIntrospectionUserInfoCache.class, TokenIntrospectionCache.class, UserInfoCache.class)
-                .supplier(recorder.setupTokenCache(config, vertxBuildItem.getVertx()))
+                .supplier(recorder.setupTokenCache(config, vertxBuildItem.getVertx(),
+                        isMicrometerSupported(metricsCapability)))
                 .scope(Singleton.class)
                 .setRuntimeInit()
                 .done();
     }
 
+    @BuildStep(onlyIf = IsCacheEnabled.class)
+    @Record(ExecutionTime.RUNTIME_INIT)
+    public void registerDefaultCacheMetrics(OidcRecorder recorder, Optional<MetricsCapabilityBuildItem> metricsCapability,
+            BuildProducer<MetricsFactoryConsumerBuildItem> metricsFactoryConsumer) {
+        if (isMicrometerSupported(metricsCapability)) {
+            metricsFactoryConsumer.produce(new MetricsFactoryConsumerBuildItem(recorder.registerTokenCacheMetrics()));
+        }
+    }
+
+    private static boolean isMicrometerSupported(Optional<MetricsCapabilityBuildItem> metricsCapability) {
+        // the statistics are only recorded with Micrometer as the Caffeine cache implementations recording them
+        // are only registered for reflection in native mode if Micrometer is around
+        return metricsCapability.isPresent() && metricsCapability.get().metricsSupported(MetricsFactory.MICROMETER);
+    }
+
     @BuildStep
     ExtensionSslNativeSupportBuildItem enableSslInNative() {
         return new ExtensionSslNativeSupportBuildItem(Feature.OIDC);
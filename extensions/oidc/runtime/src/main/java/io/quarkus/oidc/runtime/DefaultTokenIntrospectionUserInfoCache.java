@@ -1,15 +1,19 @@
 package io.quarkus.oidc.runtime;
 
+import java.security.NoSuchAlgorithmException;
+
 import jakarta.enterprise.event.Observes;
 
 import org.jboss.logging.Logger;
 
+import io.quarkus.oidc.OIDCException;
 import io.quarkus.oidc.OidcRequestContext;
 import io.quarkus.oidc.OidcTenantConfig;
 import io.quarkus.oidc.TokenIntrospection;
 import io.quarkus.oidc.TokenIntrospectionCache;
 import io.quarkus.oidc.UserInfo;
 import io.quarkus.oidc.UserInfoCache;
+import io.quarkus.oidc.common.runtime.OidcCommonUtils;
 import io.quarkus.oidc.common.runtime.OidcConstants;
 import io.quarkus.runtime.ShutdownEvent;
 import io.smallrye.mutiny.Uni;
@@ -33,18 +37,23 @@ public class DefaultTokenIntrospectionUserInfoCache implements TokenIntrospectio
     final MemoryCache<CacheEntry> cache;
 
     public DefaultTokenIntrospectionUserInfoCache(OidcConfig oidcConfig, Vertx vertx) {
+        this(oidcConfig, vertx, false);
+    }
+
+    public DefaultTokenIntrospectionUserInfoCache(OidcConfig oidcConfig, Vertx vertx, boolean recordStats) {
         cache = new MemoryCache<CacheEntry>(vertx, oidcConfig.tokenCache().cleanUpTimerInterval(),
-                oidcConfig.tokenCache().timeToLive(), oidcConfig.tokenCache().maxSize());
+                oidcConfig.tokenCache().timeToLive(), oidcConfig.tokenCache().maxSize(), recordStats);
     }
 
     @Override
     public Uni<Void> addIntrospection(String token, TokenIntrospection introspection, OidcTenantConfig oidcTenantConfig,
             OidcRequestContext<Void> requestContext) {
-        CacheEntry entry = cache.get(token);
+        String key = cacheKey(token);
+        CacheEntry entry = cache.get(key);
         if (entry != null) {
             entry.introspection = introspection;
         } else {
-            cache.add(token, new CacheEntry(introspection));
+            cache.add(key, new CacheEntry(introspection));
         }
 
         return CodeAuthenticationMechanism.VOID_UNI;
@@ -53,13 +62,14 @@ public Uni<Void> addIntrospection(String token, TokenIntrospection introspection
     @Override
     public Uni<TokenIntrospection> getIntrospection(String token, OidcTenantConfig oidcConfig,
             OidcRequestContext<TokenIntrospection> requestContext) {
-        CacheEntry entry = cache.get(token);
+        String key = cacheKey(token);
+        CacheEntry entry = cache.get(key);
         if (entry == null || entry.introspection == null) {
             return NULL_INTROSPECTION_UNI;
         }
         if (isTokenExpired(entry.introspection.getLong(OidcConstants.INTROSPECTION_TOKEN_EXP), oidcConfig)) {
             LOG.debug("Introspected token has expired, removing it from the token introspection cache");
-            cache.remove(token);
+            cache.remove(key);
             return NULL_INTROSPECTION_UNI;
         }
 
@@ -75,11 +85,12 @@ private static boolean isTokenExpired(Long exp, OidcTenantConfig oidcConfig) {
     @Override
     public Uni<Void> addUserInfo(String token, UserInfo userInfo, OidcTenantConfig oidcTenantConfig,
             OidcRequestContext<Void> requestContext) {
-        CacheEntry entry = cache.get(token);
+        String key = cacheKey(token);
+        CacheEntry entry = cache.get(key);
         if (entry != null) {
             entry.userInfo = userInfo;
         } else {
-            cache.add(token, new CacheEntry(userInfo));
+            cache.add(key, new CacheEntry(userInfo));
         }
 
         return CodeAuthenticationMechanism.VOID_UNI;
@@ -88,10 +99,22 @@ public Uni<Void> addUserInfo(String token, UserInfo userInfo, OidcTenantConfig o
     @Override
     public Uni<UserInfo> getUserInfo(String token, OidcTenantConfig oidcConfig,
             OidcRequestContext<UserInfo> requestContext) {
-        CacheEntry entry = cache.get(token);
+        CacheEntry entry = cache.get(cacheKey(token));
         return entry == null ? NULL_USERINFO_UNI : Uni.createFrom().item(entry.userInfo);
     }
 
+    /**
+     * Tokens can be large, the cache entries are keyed by the token SHA-256 digest instead of the token itself.
+     */
+    private static String cacheKey(String token) {
+        try {
+            return OidcCommonUtils.base64UrlEncode(OidcUtils.getSha256Digest(token));
+        } catch (NoSuchAlgorithmException ex) {
+            // SHA256 is always supported
+            throw new OIDCException(ex);
+        }
+    }
+
     private static class CacheEntry {
         volatile TokenIntrospection introspection;
         volatile UserInfo userInfo;
@@ -113,6 +136,18 @@ public int getCacheSize() {
         return cache.getCacheSize();
     }
 
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
     void shutdown(@Observes ShutdownEvent event, Vertx vertx) {
         cache.stopTimer(vertx);
     }
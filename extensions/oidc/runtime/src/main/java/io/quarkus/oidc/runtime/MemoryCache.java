@@ -1,27 +1,43 @@
 package io.quarkus.oidc.runtime;
 
 import java.time.Duration;
-import java.util.Iterator;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
 
+/**
+ * Bounded in-memory cache.
+ * <p>
+ * The entries are kept in a Caffeine cache: once the maximum size is reached, the entries which are least likely to be
+ * used again are evicted, and the entries are evicted in constant time once their time to live has elapsed.
+ */
 public class MemoryCache<T> {
     private volatile Long timerId = null;
 
-    private final Map<String, CacheEntry<T>> cacheMap = new ConcurrentHashMap<>();
-    private final AtomicInteger size = new AtomicInteger();
-    private final Duration cacheTimeToLive;
+    private final Cache<String, T> cacheMap;
     private final int cacheSize;
 
     public MemoryCache(Vertx vertx, Optional<Duration> cleanUpTimerInterval,
             Duration cacheTimeToLive, int cacheSize) {
-        this.cacheTimeToLive = cacheTimeToLive;
+        this(vertx, cleanUpTimerInterval, cacheTimeToLive, cacheSize, false);
+    }
+
+    public MemoryCache(Vertx vertx, Optional<Duration> cleanUpTimerInterval,
+            Duration cacheTimeToLive, int cacheSize, boolean recordStats) {
         this.cacheSize = cacheSize;
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(Math.max(cacheSize, 0))
+                .expireAfterWrite(cacheTimeToLive)
+                // the maintenance work is cheap, do it on the calling thread instead of the common pool
+                .executor(Runnable::run);
+        if (recordStats) {
+            builder.recordStats();
+        }
+        this.cacheMap = builder.build();
         init(vertx, cleanUpTimerInterval);
     }
 
@@ -31,95 +47,57 @@ private void init(Vertx vertx, Optional<Duration> cleanUpTimerInterval) {
                 @Override
                 public void handle(Long event) {
                     // Remove all the entries which have expired
-                    removeInvalidEntries();
+                    cacheMap.cleanUp();
                 }
             });
         }
     }
 
     public void add(String key, T result) {
-        if (cacheSize > 0) {
-            if (!prepareSpaceForNewCacheEntry()) {
-                clearCache();
-            }
-            cacheMap.put(key, new CacheEntry<T>(result));
+        if (cacheSize > 0 && result != null) {
+            cacheMap.put(key, result);
         }
     }
 
     public T remove(String key) {
-        CacheEntry<T> entry = removeCacheEntry(key);
-        return entry == null ? null : entry.result;
+        return cacheMap.asMap().remove(key);
     }
 
     public T get(String key) {
-        CacheEntry<T> entry = cacheMap.get(key);
-        return entry == null ? null : entry.result;
+        return cacheMap.getIfPresent(key);
     }
 
     public boolean containsKey(String key) {
-        return cacheMap.containsKey(key);
-    }
-
-    private void removeInvalidEntries() {
-        long now = now();
-        for (Iterator<Map.Entry<String, CacheEntry<T>>> it = cacheMap.entrySet().iterator(); it.hasNext();) {
-            Map.Entry<String, CacheEntry<T>> next = it.next();
-            if (next != null) {
-                if (isEntryExpired(next.getValue(), now)) {
-                    try {
-                        it.remove();
-                        size.decrementAndGet();
-                    } catch (IllegalStateException ex) {
-                        // continue
-                    }
-                }
-            }
-        }
+        return cacheMap.asMap().containsKey(key);
     }
 
-    private boolean prepareSpaceForNewCacheEntry() {
-        int currentSize;
-        do {
-            currentSize = size.get();
-            if (currentSize == cacheSize) {
-                return false;
-            }
-        } while (!size.compareAndSet(currentSize, currentSize + 1));
-        return true;
-    }
-
-    private CacheEntry<T> removeCacheEntry(String token) {
-        CacheEntry<T> entry = cacheMap.remove(token);
-        if (entry != null) {
-            size.decrementAndGet();
-        }
-        return entry;
-    }
-
-    private boolean isEntryExpired(CacheEntry<T> entry, long now) {
-        return entry.createdTime + cacheTimeToLive.toMillis() < now;
+    public int getCacheSize() {
+        return (int) cacheMap.estimatedSize();
     }
 
-    private static long now() {
-        return System.currentTimeMillis();
+    /**
+     * @return the number of lookups which returned a cached value, always {@code 0} if the statistics are not recorded
+     */
+    public long getHitCount() {
+        return cacheMap.stats().hitCount();
     }
 
-    private static class CacheEntry<T> {
-        volatile T result;
-        long createdTime = System.currentTimeMillis();
-
-        public CacheEntry(T result) {
-            this.result = result;
-        }
+    /**
+     * @return the number of lookups which did not find a cached value, always {@code 0} if the statistics are not recorded
+     */
+    public long getMissCount() {
+        return cacheMap.stats().missCount();
     }
 
-    public int getCacheSize() {
-        return cacheMap.size();
+    /**
+     * @return the number of evicted entries, always {@code 0} if the statistics are not recorded
+     */
+    public long getEvictionCount() {
+        return cacheMap.stats().evictionCount();
     }
 
     public void clearCache() {
-        cacheMap.clear();
-        size.set(0);
+        cacheMap.invalidateAll();
     }
 
     public void stopTimer(Vertx vertx) {
@@ -26,6 +26,7 @@
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.annotations.RuntimeInit;
 import io.quarkus.runtime.annotations.StaticInit;
+import io.quarkus.runtime.metrics.MetricsFactory;
 import io.quarkus.security.AuthenticationFailedException;
 import io.quarkus.security.identity.AuthenticationRequestContext;
 import io.quarkus.security.identity.SecurityIdentity;
@@ -43,15 +44,63 @@ public class OidcRecorder {
     public static final String ACR_VALUES_TO_MAX_AGE_SEPARATOR = "@#$%@";
     static final Logger LOG = Logger.getLogger(OidcRecorder.class);
 
-    public Supplier<DefaultTokenIntrospectionUserInfoCache> setupTokenCache(OidcConfig config, Supplier<Vertx> vertx) {
+    public Supplier<DefaultTokenIntrospectionUserInfoCache> setupTokenCache(OidcConfig config, Supplier<Vertx> vertx,
+            boolean recordStats) {
         return new Supplier<DefaultTokenIntrospectionUserInfoCache>() {
             @Override
             public DefaultTokenIntrospectionUserInfoCache get() {
-                return new DefaultTokenIntrospectionUserInfoCache(config, vertx.get());
+                return new DefaultTokenIntrospectionUserInfoCache(config, vertx.get(), recordStats);
             }
         };
     }
 
+    public Consumer<MetricsFactory> registerTokenCacheMetrics() {
+        return new Consumer<MetricsFactory>() {
+            @Override
+            public void accept(MetricsFactory metricsFactory) {
+                // the cache bean is resolved lazily as it may not have been created yet
+                metricsFactory.builder("oidc.token.cache.gets")
+                        .description("The number of times the token introspection and UserInfo cache lookups returned a value")
+                        .tag("result", "hit")
+                        .buildCounter(new Supplier<Number>() {
+                            @Override
+                            public Number get() {
+                                return tokenCache().getHitCount();
+                            }
+                        });
+                metricsFactory.builder("oidc.token.cache.gets")
+                        .description("The number of times the token introspection and UserInfo cache lookups returned no value")
+                        .tag("result", "miss")
+                        .buildCounter(new Supplier<Number>() {
+                            @Override
+                            public Number get() {
+                                return tokenCache().getMissCount();
+                            }
+                        });
+                metricsFactory.builder("oidc.token.cache.evictions")
+                        .description("The number of entries evicted from the token introspection and UserInfo cache")
+                        .buildCounter(new Supplier<Number>() {
+                            @Override
+                            public Number get() {
+                                return tokenCache().getEvictionCount();
+                            }
+                        });
+                metricsFactory.builder("oidc.token.cache.size")
+                        .description("The approximate number of entries in the token introspection and UserInfo cache")
+                        .buildGauge(new Supplier<Number>() {
+                            @Override
+                            public Number get() {
+                                return tokenCache().getCacheSize();
+                            }
+                        });
+            }
+        };
+    }
+
+    private static DefaultTokenIntrospectionUserInfoCache tokenCache() {
+        return Arc.container().instance(DefaultTokenIntrospectionUserInfoCache.class).get();
+    }
+
     @StaticInit
     public void setUserInfoInjectionPointDetected(boolean userInfoInjectionPointDetected) {
         TenantContextFactory.userInfoInjectionPointDetected = userInfoInjectionPointDetected;
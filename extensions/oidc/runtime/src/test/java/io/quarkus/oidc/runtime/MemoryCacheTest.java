@@ -80,17 +80,41 @@ public void testAddWhenMaxCacheSizeIsReached() throws Exception {
         cache.add("2", new Bean("2"));
         assertEquals(2, cache.getCacheSize());
 
-        // Currently, if the cache is full and a new entry has to be added, then the whole cache is cleared
-        // It can be optimized to remove the oldest entry only in the future
+        // "1" is used more frequently than "2"
+        for (int i = 0; i < 3; i++) {
+            assertEquals("1", cache.get("1").name);
+        }
 
+        // If the cache is full and a new entry has to be added, then the entry which is least likely to be used is evicted
         cache.add("3", new Bean("3"));
-        assertEquals(1, cache.getCacheSize());
+        assertEquals(2, cache.getCacheSize());
 
-        assertNull(cache.get("1"));
+        assertEquals("1", cache.get("1").name);
         assertNull(cache.get("2"));
         assertEquals("3", cache.get("3").name);
     }
 
+    @Test
+    public void testStats() throws Exception {
+
+        MemoryCache<Bean> cache = new MemoryCache<Bean>(vertx,
+                // timer interval
+                Optional.empty(),
+                // entry is valid for 3 seconds
+                Duration.ofSeconds(3),
+                // max cache size
+                2,
+                // record stats
+                true);
+
+        cache.add("1", new Bean("1"));
+        assertEquals("1", cache.get("1").name);
+        assertNull(cache.get("2"));
+
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
     static class Bean {
         String name;
 
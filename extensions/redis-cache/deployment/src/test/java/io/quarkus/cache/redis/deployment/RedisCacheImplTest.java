@@ -9,10 +9,12 @@
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Supplier;
 
 import jakarta.inject.Inject;
@@ -621,6 +623,154 @@ void testInvalidation() {
         assertThat(getAllKeys()).hasSize(1);
     }
 
+    @Test
+    void testNearCache() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "near";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        info.nearCacheExpireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        cache.put("key1", "val1").await().indefinitely();
+        assertThat(cache.get("key2", k -> "val2").await().indefinitely()).isEqualTo("val2");
+        assertThatTheKeyDoesExist("cache:near:key1");
+        assertThatTheKeyDoesExist("cache:near:key2");
+
+        // removed from Redis behind the cache's back, the values are still served by the near cache
+        redis.send(Request.cmd(Command.DEL).arg("cache:near:key1").arg("cache:near:key2")).await().indefinitely();
+        assertThat(cache.getOrNull("key1", String.class).await().indefinitely()).isEqualTo("val1");
+        assertThat(cache.get("key2", k -> "other").await().indefinitely()).isEqualTo("val2");
+
+        // invalidations performed through the cache also invalidate the near cache
+        cache.invalidate("key1").await().indefinitely();
+        assertThat(cache.getOrNull("key1", String.class).await().indefinitely()).isNull();
+        cache.invalidateAll().await().indefinitely();
+        assertThat(cache.get("key2", k -> "other").await().indefinitely()).isEqualTo("other");
+    }
+
+    @Test
+    void testNearCacheIsNotPopulatedAfterConcurrentInvalidation() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "near-race";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        info.nearCacheExpireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        // the DEL sent by invalidate() is held until the test releases it
+        CompletableFuture<Void> releaseDel = new CompletableFuture<>();
+        Redis delayedDel = new Redis(redis.getDelegate()) {
+            @Override
+            public Uni<Response> send(Request request) {
+                return Uni.createFrom().completionStage(releaseDel).chain(() -> super.send(request));
+            }
+        };
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, delayedDel, BLOCKING_ALLOWED);
+
+        redis.send(Request.cmd(Command.SET).arg("cache:near-race:key1").arg("val1")).await().indefinitely();
+        CompletableFuture<Void> invalidation = cache.invalidate("key1").subscribeAsCompletionStage();
+        // the read starts after the invalidation, and is answered by Redis before the DEL lands
+        assertThat(cache.getOrNull("key1", String.class).await().indefinitely()).isEqualTo("val1");
+        releaseDel.complete(null);
+        invalidation.join();
+
+        // the stale value read from Redis must not be served by the near cache
+        assertThatTheKeyDoesNotExist("cache:near-race:key1");
+        assertThat(cache.getOrNull("key1", String.class).await().indefinitely()).isNull();
+
+        // without a concurrent invalidation, the value read from Redis is stored in the near cache
+        redis.send(Request.cmd(Command.SET).arg("cache:near-race:key1").arg("val2")).await().indefinitely();
+        assertThat(cache.getOrNull("key1", String.class).await().indefinitely()).isEqualTo("val2");
+        redis.send(Request.cmd(Command.DEL).arg("cache:near-race:key1")).await().indefinitely();
+        assertThat(cache.getOrNull("key1", String.class).await().indefinitely()).isEqualTo("val2");
+
+        // the near cache is looked up when the read is subscribed, not when it is created
+        Uni<String> read = cache.getOrNull("key1", String.class);
+        cache.invalidate("key1").await().indefinitely();
+        assertThat(read.await().indefinitely()).isNull();
+    }
+
+    @Test
+    void testNearCacheWithAnotherValueType() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "near-types";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        info.nearCacheExpireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        cache.put("key1", 42).await().indefinitely();
+        assertThat(cache.getOrNull("key1", Integer.class).await().indefinitely()).isEqualTo(42);
+        // the near cache holds an Integer, the value is read from Redis with the requested type instead
+        assertThat(cache.getOrNull("key1", String.class).await().indefinitely()).isEqualTo("42");
+    }
+
+    @Test
+    void testGetAll() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "bulk";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+
+        cache.put("key1", "val1").await().indefinitely();
+        List<Set<String>> loadedKeys = new ArrayList<>();
+        Map<String, String> values = cache.<String, String> getAll(Set.of("key1", "key2", "key3"), keys -> {
+            loadedKeys.add(keys);
+            return Map.of("key2", "val2");
+        }).await().indefinitely();
+
+        assertThat(values).containsOnly(Map.entry("key1", "val1"), Map.entry("key2", "val2"));
+        assertThat(loadedKeys).containsExactly(Set.of("key2", "key3"));
+        assertThatTheKeyDoesExist("cache:bulk:key2");
+        assertThatTheKeyDoesNotExist("cache:bulk:key3");
+    }
+
+    @Test
+    void testGetAllWithClusterClient() {
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "bulk-cluster";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        // the keys are read and written one by one, which also works with a standalone server
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED, true);
+
+        cache.put("key1", "val1").await().indefinitely();
+        Map<String, String> values = cache.<String, String> getAll(Set.of("key1", "key2", "key3"),
+                keys -> Map.of("key2", "val2", "key3", "val3")).await().indefinitely();
+
+        assertThat(values).containsOnly(Map.entry("key1", "val1"), Map.entry("key2", "val2"), Map.entry("key3", "val3"));
+        assertThatTheKeyDoesExist("cache:bulk-cluster:key2");
+        assertThatTheKeyDoesExist("cache:bulk-cluster:key3");
+    }
+
+    @Test
+    void testGetAllWithoutRedis() {
+        // must start our own Redis server, because we need to stop it in the middle of the test
+        GenericContainer<?> server = new GenericContainer<>("redis:7").withExposedPorts(6379);
+        server.start();
+        Redis redis = Redis.createClient(vertx, "redis://" + server.getHost() + ":" + server.getFirstMappedPort());
+
+        RedisCacheInfo info = new RedisCacheInfo();
+        info.name = "bulk-down";
+        info.valueType = String.class;
+        info.expireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        info.nearCacheExpireAfterWrite = Optional.of(Duration.ofSeconds(10));
+        RedisCacheImpl cache = new RedisCacheImpl(info, vertx, redis, BLOCKING_ALLOWED);
+        cache.put("key1", "val1").await().indefinitely();
+        server.close();
+
+        List<Set<String>> loadedKeys = new ArrayList<>();
+        Map<String, String> values = cache.<String, String> getAll(Set.of("key1", "key2"), keys -> {
+            loadedKeys.add(keys);
+            return Map.of("key2", "val2");
+        }).await().indefinitely();
+
+        // the value found in the near cache is not computed again
+        assertThat(values).containsOnly(Map.entry("key1", "val1"), Map.entry("key2", "val2"));
+        assertThat(loadedKeys).containsExactly(Set.of("key2"));
+        redis.close();
+    }
+
     private Set<String> getAllKeys() {
         return redis.send(Request.cmd(Command.KEYS).arg("*"))
                 .map(r -> {
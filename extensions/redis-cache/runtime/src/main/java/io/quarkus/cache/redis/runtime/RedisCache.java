@@ -13,8 +13,8 @@ public interface RedisCache extends Cache {
     /**
      * When configured, gets the default type of the value stored in the cache.
      * The configured type is used in methods {@link #get(Object, Function)},
-     * {@link #getAsync(Object, Function)}, {@link #getOrDefault(Object, Object)}
-     * and {@link #getOrNull(Object)}.
+     * {@link #getAsync(Object, Function)}, {@link #getAll(java.util.Set, Function)},
+     * {@link #getOrDefault(Object, Object)} and {@link #getOrNull(Object)}.
      *
      * @deprecated should have never been exposed publicly
      * @return the type, {@code null} if not configured or if not a {@code Class}.
@@ -1,13 +1,21 @@
 package io.quarkus.cache.redis.runtime;
 
+import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.net.ConnectException;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -15,16 +23,23 @@
 
 import jakarta.enterprise.util.TypeLiteral;
 
+import org.eclipse.microprofile.config.ConfigProvider;
 import org.jboss.logging.Logger;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.cache.CacheException;
 import io.quarkus.cache.CompositeCacheKey;
 import io.quarkus.cache.runtime.AbstractCache;
 import io.quarkus.redis.client.RedisClientName;
+import io.quarkus.redis.runtime.client.config.RedisClientConfig;
+import io.quarkus.redis.runtime.client.config.RedisConfig;
 import io.quarkus.redis.runtime.datasource.Marshaller;
 import io.quarkus.runtime.BlockingOperationControl;
+import io.smallrye.config.SmallRyeConfig;
 import io.smallrye.mutiny.Uni;
 import io.smallrye.mutiny.subscription.UniEmitter;
 import io.smallrye.mutiny.unchecked.Unchecked;
@@ -37,6 +52,7 @@
 import io.vertx.mutiny.redis.client.RedisConnection;
 import io.vertx.mutiny.redis.client.Request;
 import io.vertx.mutiny.redis.client.Response;
+import io.vertx.redis.client.RedisClientType;
 
 /**
  * This class is an internal Quarkus cache implementation using Redis.
@@ -46,6 +62,10 @@ public class RedisCacheImpl extends AbstractCache implements RedisCache {
 
     private static final Logger log = Logger.getLogger(RedisCacheImpl.class);
 
+    private static final long DEFAULT_NEAR_CACHE_MAXIMUM_SIZE = 10_000;
+    // must be a power of two
+    private static final int NEAR_CACHE_GENERATION_STRIPES = 1024;
+
     private final Vertx vertx;
     private final Redis redis;
 
@@ -57,10 +77,21 @@ public class RedisCacheImpl extends AbstractCache implements RedisCache {
 
     private final Supplier<Boolean> blockingAllowedSupplier;
 
+    // multi-key commands fail when the keys belong to different hash slots of a Redis cluster
+    private final boolean cluster;
+
+    // the local cache in front of Redis, keyed by the actual Redis key, or null if there's no near cache
+    private final Cache<String, Object> nearCache;
+    // incremented when the keys hashed to a stripe are written or invalidated, so that a value read from Redis before that
+    // is not stored in the near cache once the read completes
+    private final AtomicLongArray nearCacheGenerations;
+    // incremented when several keys are invalidated at once
+    private final AtomicLong nearCacheGlobalGeneration;
+
     public RedisCacheImpl(RedisCacheInfo cacheInfo, Optional<String> redisClientName) {
 
         this(cacheInfo, Arc.container().select(Vertx.class).get(), determineRedisClient(redisClientName),
-                BlockingOperationControl::isBlockingAllowed);
+                BlockingOperationControl::isBlockingAllowed, isClusterClient(redisClientName));
     }
 
     private static Redis determineRedisClient(Optional<String> redisClientName) {
@@ -72,10 +103,31 @@ private static Redis determineRedisClient(Optional<String> redisClientName) {
         }
     }
 
+    private static boolean isClusterClient(Optional<String> redisClientName) {
+        RedisConfig config = ConfigProvider.getConfig().unwrap(SmallRyeConfig.class).getConfigMapping(RedisConfig.class);
+        RedisClientConfig clientConfig = null;
+        if (redisClientName.isEmpty() || RedisConfig.isDefaultClient(redisClientName.get())) {
+            clientConfig = config.defaultRedisClient();
+        } else {
+            for (Map.Entry<String, RedisClientConfig> entry : config.namedRedisClients().entrySet()) {
+                if (entry.getKey().equalsIgnoreCase(redisClientName.get())) {
+                    clientConfig = entry.getValue();
+                }
+            }
+        }
+        return clientConfig != null && clientConfig.clientType() == RedisClientType.CLUSTER;
+    }
+
     public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Supplier<Boolean> blockingAllowedSupplier) {
+        this(cacheInfo, vertx, redis, blockingAllowedSupplier, false);
+    }
+
+    public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Supplier<Boolean> blockingAllowedSupplier,
+            boolean cluster) {
         this.vertx = vertx;
         this.cacheInfo = cacheInfo;
         this.blockingAllowedSupplier = blockingAllowedSupplier;
+        this.cluster = cluster;
 
         this.classOfKey = this.cacheInfo.keyType;
 
@@ -88,6 +140,19 @@ public RedisCacheImpl(RedisCacheInfo cacheInfo, Vertx vertx, Redis redis, Suppli
         }
         this.marshaller.add(CompositeCacheKey.class);
         this.redis = redis;
+
+        if (cacheInfo.nearCacheExpireAfterWrite.isPresent()) {
+            this.nearCache = Caffeine.newBuilder()
+                    .expireAfterWrite(cacheInfo.nearCacheExpireAfterWrite.get())
+                    .maximumSize(cacheInfo.nearCacheMaximumSize.orElse(DEFAULT_NEAR_CACHE_MAXIMUM_SIZE))
+                    .build();
+            this.nearCacheGenerations = new AtomicLongArray(NEAR_CACHE_GENERATION_STRIPES);
+            this.nearCacheGlobalGeneration = new AtomicLong();
+        } else {
+            this.nearCache = null;
+            this.nearCacheGenerations = null;
+            this.nearCacheGlobalGeneration = null;
+        }
     }
 
     private static boolean isRecomputableError(Throwable error) {
@@ -158,9 +223,10 @@ private <K, V> Uni<V> get(K key, Type type, Function<K, V> valueLoader) {
         // val = deserialize(GET K)
         // if (val == null) => SET K computation.apply(K)
         // else => return val
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
         boolean isWorkerThread = blockingAllowedSupplier.get();
-        return withConnection(new Function<RedisConnection, Uni<V>>() {
+        return populateNearCache(actualKey, type, withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection connection) {
                 Uni<V> startingPoint;
@@ -210,8 +276,7 @@ public Uni<?> apply(V value) {
                             }
                         }));
             }
-        })
-
+        }))
                 .onFailure(RedisCacheImpl::isRecomputableError).recoverWithUni(new Function<Throwable, Uni<? extends V>>() {
                     @Override
                     public Uni<? extends V> apply(Throwable e) {
@@ -238,8 +303,9 @@ public <K, V> Uni<V> getAsync(K key, TypeLiteral<V> type, Function<K, Uni<V>> va
     }
 
     private <K, V> Uni<V> getAsync(K key, Type type, Function<K, Uni<V>> valueLoader) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        return withConnection(new Function<RedisConnection, Uni<V>>() {
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
+        return populateNearCache(actualKey, type, withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection connection) {
                 Uni<V> startingPoint;
@@ -275,13 +341,204 @@ public Uni<V> apply(RedisConnection connection) {
                             }
                         });
             }
-        })
+        }))
                 .onFailure(RedisCacheImpl::isRecomputableError).recoverWithUni(e -> {
                     log.warn("Unable to connect to Redis, recomputing cached value", e);
                     return valueLoader.apply(key);
                 });
     }
 
+    @Override
+    public <K, V> Uni<Map<K, V>> getAll(Set<K> keys, Function<Set<K>, Map<K, V>> valueLoader) {
+        enforceDefaultType("getAll");
+        if (keys.isEmpty()) {
+            return Uni.createFrom().item(Map.of());
+        }
+        boolean isWorkerThread = blockingAllowedSupplier.get();
+        // the near cache is read when the returned Uni is subscribed
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends Map<K, V>>>() {
+            @Override
+            public Uni<? extends Map<K, V>> get() {
+                return readAll(keys, valueLoader, isWorkerThread);
+            }
+        });
+    }
+
+    private <K, V> Uni<Map<K, V>> readAll(Set<K> keys, Function<Set<K>, Map<K, V>> valueLoader, boolean isWorkerThread) {
+        Map<K, V> result = new HashMap<>();
+        // actual Redis key -> user key, for the keys which are not in the near cache
+        Map<String, K> remainingKeys = new HashMap<>();
+        // actual Redis key -> near cache generation when the read started
+        Map<String, Long> generations = nearCache != null ? new HashMap<>() : null;
+        for (K key : keys) {
+            String actualKey = computeActualKey(encodeKey(key));
+            V nearCached = getFromNearCache(actualKey, classOfValue);
+            if (nearCached != null) {
+                result.put(key, nearCached);
+            } else {
+                remainingKeys.put(actualKey, key);
+                if (generations != null) {
+                    generations.put(actualKey, nearCacheGeneration(actualKey));
+                }
+            }
+        }
+        if (remainingKeys.isEmpty()) {
+            return Uni.createFrom().item(result);
+        }
+        List<String> actualKeys = new ArrayList<>(remainingKeys.keySet());
+        return doGetAll(actualKeys)
+                .chain(new Function<List<Response>, Uni<? extends Map<K, V>>>() {
+                    @Override
+                    public Uni<Map<K, V>> apply(List<Response> responses) {
+                        Set<K> missingKeys = new HashSet<>();
+                        for (int i = 0; i < actualKeys.size(); i++) {
+                            String actualKey = actualKeys.get(i);
+                            V value = marshaller.decode(classOfValue, responses.get(i));
+                            if (value != null) {
+                                result.put(remainingKeys.get(actualKey), value);
+                                if (generations != null) {
+                                    putInNearCache(actualKey, value, generations.get(actualKey));
+                                }
+                            } else {
+                                missingKeys.add(remainingKeys.get(actualKey));
+                            }
+                        }
+                        if (missingKeys.isEmpty()) {
+                            return Uni.createFrom().item(result);
+                        }
+                        return computeValues(missingKeys, valueLoader, isWorkerThread)
+                                .chain(new Function<Map<K, V>, Uni<? extends Map<K, V>>>() {
+                                    @Override
+                                    public Uni<Map<K, V>> apply(Map<K, V> newValues) {
+                                        return setAll(newValues, result, generations);
+                                    }
+                                });
+                    }
+                })
+                .onFailure(RedisCacheImpl::isRecomputableError)
+                .recoverWithUni(new Function<Throwable, Uni<? extends Map<K, V>>>() {
+                    @Override
+                    public Uni<? extends Map<K, V>> apply(Throwable e) {
+                        log.warn("Unable to connect to Redis, recomputing cached values", e);
+                        // the values found in the near cache are already in the result
+                        Set<K> missingKeys = new HashSet<>(remainingKeys.values());
+                        return computeValues(missingKeys, valueLoader, isWorkerThread)
+                                .map(new Function<Map<K, V>, Map<K, V>>() {
+                                    @Override
+                                    public Map<K, V> apply(Map<K, V> newValues) {
+                                        for (Map.Entry<K, V> entry : newValues.entrySet()) {
+                                            if (entry.getValue() != null) {
+                                                result.put(entry.getKey(), entry.getValue());
+                                            }
+                                        }
+                                        return result;
+                                    }
+                                });
+                    }
+                });
+    }
+
+    /**
+     * Reads all the given keys, using a single {@code MGET}, or {@code GETEX} commands when the entries expire after
+     * access, or {@code GET} commands with a Redis cluster as {@code MGET} rejects keys belonging to different hash slots.
+     */
+    private Uni<List<Response>> doGetAll(List<String> actualKeys) {
+        if (cacheInfo.expireAfterAccess.isPresent() || cluster) {
+            List<Request> requests = new ArrayList<>(actualKeys.size());
+            for (String actualKey : actualKeys) {
+                if (cacheInfo.expireAfterAccess.isPresent()) {
+                    requests.add(Request.cmd(Command.GETEX).arg(marshaller.encode(actualKey))
+                            .arg("EX").arg(cacheInfo.expireAfterAccess.get().toSeconds()));
+                } else {
+                    requests.add(Request.cmd(Command.GET).arg(marshaller.encode(actualKey)));
+                }
+            }
+            return sendAll(requests);
+        }
+        Request request = Request.cmd(Command.MGET);
+        for (String actualKey : actualKeys) {
+            request.arg(marshaller.encode(actualKey));
+        }
+        return redis.send(request).map(new Function<Response, List<Response>>() {
+            @Override
+            public List<Response> apply(Response response) {
+                List<Response> responses = new ArrayList<>(actualKeys.size());
+                for (int i = 0; i < actualKeys.size(); i++) {
+                    responses.add(response.get(i));
+                }
+                return responses;
+            }
+        });
+    }
+
+    /**
+     * Stores the given values in a single pipeline and adds them to {@code result}. The values are added to the near cache
+     * unless their keys were written or invalidated since the given generations were captured.
+     */
+    private <K, V> Uni<Map<K, V>> setAll(Map<K, V> values, Map<K, V> result, Map<String, Long> generations) {
+        List<Request> requests = new ArrayList<>(values.size());
+        Map<String, V> nearCacheValues = generations != null ? new HashMap<>() : null;
+        for (Map.Entry<K, V> entry : values.entrySet()) {
+            if (entry.getValue() == null) {
+                // null values cannot be cached
+                continue;
+            }
+            String actualKey = computeActualKey(encodeKey(entry.getKey()));
+            Request request = Request.cmd(Command.SET).arg(marshaller.encode(actualKey))
+                    .arg(marshaller.encode(entry.getValue()));
+            if (cacheInfo.expireAfterWrite.isPresent()) {
+                request = request.arg("EX").arg(cacheInfo.expireAfterWrite.get().toSeconds());
+            }
+            requests.add(request);
+            result.put(entry.getKey(), entry.getValue());
+            if (nearCacheValues != null) {
+                nearCacheValues.put(actualKey, entry.getValue());
+            }
+        }
+        if (requests.isEmpty()) {
+            return Uni.createFrom().item(result);
+        }
+        return sendAll(requests).invoke(new Runnable() {
+            @Override
+            public void run() {
+                if (nearCacheValues != null) {
+                    for (Map.Entry<String, V> entry : nearCacheValues.entrySet()) {
+                        putInNearCache(entry.getKey(), entry.getValue(), generations.get(entry.getKey()));
+                    }
+                }
+            }
+        }).replaceWith(result);
+    }
+
+    /**
+     * Sends the given requests in a pipeline, or concurrently with a Redis cluster as their keys may belong to different
+     * hash slots.
+     */
+    private Uni<List<Response>> sendAll(List<Request> requests) {
+        if (!cluster) {
+            return redis.batch(requests);
+        }
+        List<Uni<Response>> responses = new ArrayList<>(requests.size());
+        for (Request request : requests) {
+            responses.add(redis.send(request));
+        }
+        return Uni.join().all(responses).andFailFast();
+    }
+
+    private <K, V> Uni<Map<K, V>> computeValues(Set<K> keys, Function<Set<K>, Map<K, V>> valueLoader,
+            boolean isWorkerThread) {
+        Uni<Map<K, V>> uni = Uni.createFrom().item(new Supplier<Map<K, V>>() {
+            @Override
+            public Map<K, V> get() {
+                return valueLoader.apply(keys);
+            }
+        });
+        if (isWorkerThread) {
+            return uni.runSubscriptionOn(MutinyHelper.blockingExecutor(vertx.getDelegate(), false));
+        }
+        return uni;
+    }
+
     @Override
     public <K, V> Uni<Void> put(K key, V value) {
         return put(key, new StaticSupplier<>(value));
@@ -289,14 +546,43 @@ public <K, V> Uni<Void> put(K key, V value) {
 
     @Override
     public <K, V> Uni<Void> put(K key, Supplier<V> supplier) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        byte[] encodedValue = marshaller.encode(supplier.get());
-        return withConnection(new Function<RedisConnection, Uni<Void>>() {
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
+        V value = supplier.get();
+        byte[] encodedValue = marshaller.encode(value);
+        Uni<Void> set = withConnection(new Function<RedisConnection, Uni<Void>>() {
             @Override
             public Uni<Void> apply(RedisConnection connection) {
                 return set(connection, encodedKey, encodedValue);
             }
         });
+        if (nearCache == null) {
+            return set;
+        }
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends Void>>() {
+            @Override
+            public Uni<? extends Void> get() {
+                invalidateNearCache(actualKey);
+                // captured after the invalidation, so that only the latest write is stored in the near cache
+                long generation = nearCacheGeneration(actualKey);
+                return set.onFailure().invoke(new Runnable() {
+                    @Override
+                    public void run() {
+                        invalidateNearCache(actualKey);
+                    }
+                }).invoke(new Runnable() {
+                    @Override
+                    public void run() {
+                        boolean latest = nearCacheGeneration(actualKey) == generation;
+                        // a read answered by Redis before the SET discards its value, as the generation has changed
+                        invalidateNearCache(actualKey);
+                        if (latest && value != null) {
+                            putInNearCache(actualKey, value, nearCacheGeneration(actualKey));
+                        }
+                    }
+                });
+            }
+        });
     }
 
     private void enforceDefaultType(String methodName) {
@@ -325,13 +611,14 @@ public <K, V> Uni<V> getOrDefault(K key, TypeLiteral<V> type, V defaultValue) {
     }
 
     private <K, V> Uni<V> getOrDefault(K key, Type type, V defaultValue) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        return withConnection(new Function<RedisConnection, Uni<V>>() {
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
+        return populateNearCache(actualKey, type, withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection redisConnection) {
                 return doGet(redisConnection, encodedKey, type, marshaller);
             }
-        }).onItem().ifNull().continueWith(new StaticSupplier<>(defaultValue));
+        })).onItem().ifNull().continueWith(new StaticSupplier<>(defaultValue));
     }
 
     @Override
@@ -351,20 +638,38 @@ public <K, V> Uni<V> getOrNull(K key, TypeLiteral<V> type) {
     }
 
     private <K, V> Uni<V> getOrNull(K key, Type type) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        return withConnection(new Function<RedisConnection, Uni<V>>() {
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
+        return populateNearCache(actualKey, type, withConnection(new Function<RedisConnection, Uni<V>>() {
             @Override
             public Uni<V> apply(RedisConnection redisConnection) {
                 return doGet(redisConnection, encodedKey, type, marshaller);
             }
-        });
+        }));
     }
 
     @Override
     public Uni<Void> invalidate(Object key) {
-        byte[] encodedKey = marshaller.encode(computeActualKey(encodeKey(key)));
-        return redis.send(Request.cmd(Command.DEL).arg(encodedKey))
+        String actualKey = computeActualKey(encodeKey(key));
+        byte[] encodedKey = marshaller.encode(actualKey);
+        Uni<Void> del = redis.send(Request.cmd(Command.DEL).arg(encodedKey))
                 .replaceWithVoid();
+        if (nearCache == null) {
+            return del;
+        }
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends Void>>() {
+            @Override
+            public Uni<? extends Void> get() {
+                invalidateNearCache(actualKey);
+                return del.onTermination().invoke(new Runnable() {
+                    @Override
+                    public void run() {
+                        // a read answered by Redis before the DEL discards its value, as the generation has changed
+                        invalidateNearCache(actualKey);
+                    }
+                });
+            }
+        });
     }
 
     @Override
@@ -374,7 +679,7 @@ public Uni<Void> invalidateAll() {
 
     @Override
     public Uni<Void> invalidateIf(Predicate<Object> predicate) {
-        return Uni.createFrom().emitter(new Consumer<UniEmitter<? super Set<String>>>() {
+        Uni<Void> del = Uni.createFrom().emitter(new Consumer<UniEmitter<? super Set<String>>>() {
             @Override
             public void accept(UniEmitter<? super Set<String>> uniEmitter) {
                 scanForKeys("0", new HashSet<>(), uniEmitter);
@@ -400,6 +705,35 @@ public Uni<?> apply(Set<String> setOfKeys) {
             }
         })
                 .replaceWithVoid();
+        if (nearCache == null) {
+            return del;
+        }
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends Void>>() {
+            @Override
+            public Uni<? extends Void> get() {
+                invalidateNearCacheIf(predicate);
+                return del.onTermination().invoke(new Runnable() {
+                    @Override
+                    public void run() {
+                        invalidateNearCacheIf(predicate);
+                    }
+                });
+            }
+        });
+    }
+
+    private void invalidateNearCacheIf(Predicate<Object> predicate) {
+        nearCacheGlobalGeneration.incrementAndGet();
+        if (predicate == AlwaysTruePredicate.INSTANCE) {
+            nearCache.invalidateAll();
+        } else {
+            nearCache.asMap().keySet().removeIf(new Predicate<String>() {
+                @Override
+                public boolean test(String actualKey) {
+                    return predicate.test(computeUserKey(actualKey));
+                }
+            });
+        }
     }
 
     private void scanForKeys(String cursor, Set<String> result, UniEmitter<? super Set<String>> em) {
@@ -457,6 +791,93 @@ private String getKeyPrefix() {
         }
     }
 
+    /**
+     * Returns the value stored in the near cache, or {@code null} if there's none or if it is not an instance of the
+     * requested type, in which case the value is read from Redis with the requested type.
+     */
+    @SuppressWarnings("unchecked")
+    private <V> V getFromNearCache(String actualKey, Type type) {
+        if (nearCache == null) {
+            return null;
+        }
+        Object value = nearCache.getIfPresent(actualKey);
+        if (value == null || !isInstance(type, value)) {
+            return null;
+        }
+        return (V) value;
+    }
+
+    private static boolean isInstance(Type type, Object value) {
+        if (type instanceof Class<?> clazz) {
+            return clazz.isPrimitive() || clazz.isInstance(value);
+        }
+        if (type instanceof ParameterizedType parameterizedType
+                && parameterizedType.getRawType() instanceof Class<?> rawType) {
+            return rawType.isInstance(value);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the value stored in the near cache, or the value read by the given {@code Uni}, which is then added to the
+     * near cache. The near cache is looked up when the returned {@code Uni} is subscribed, not when it is created.
+     */
+    private <V> Uni<V> populateNearCache(String actualKey, Type type, Uni<V> uni) {
+        if (nearCache == null) {
+            return uni;
+        }
+        return Uni.createFrom().deferred(new Supplier<Uni<? extends V>>() {
+            @Override
+            public Uni<? extends V> get() {
+                V nearCached = getFromNearCache(actualKey, type);
+                if (nearCached != null) {
+                    return Uni.createFrom().item(nearCached);
+                }
+                // captured before the read, the value is discarded if the key is written or invalidated in the meantime
+                long generation = nearCacheGeneration(actualKey);
+                return uni.invoke(new Consumer<V>() {
+                    @Override
+                    public void accept(V value) {
+                        if (value != null) {
+                            putInNearCache(actualKey, value, generation);
+                        }
+                    }
+                });
+            }
+        });
+    }
+
+    private long nearCacheGeneration(String actualKey) {
+        if (nearCache == null) {
+            return 0;
+        }
+        // both counters only increase, so the sum changes whenever one of them is incremented
+        return nearCacheGlobalGeneration.get() + nearCacheGenerations.get(nearCacheStripe(actualKey));
+    }
+
+    private void putInNearCache(String actualKey, Object value, long generation) {
+        // the generation is checked while holding the entry lock: an invalidation incrementing the generation after the
+        // check waits for the value to be stored before removing it
+        nearCache.asMap().compute(actualKey, new BiFunction<String, Object, Object>() {
+            @Override
+            public Object apply(String key, Object current) {
+                return nearCacheGeneration(key) == generation ? value : current;
+            }
+        });
+    }
+
+    private void invalidateNearCache(String actualKey) {
+        if (nearCache != null) {
+            nearCacheGenerations.incrementAndGet(nearCacheStripe(actualKey));
+            nearCache.invalidate(actualKey);
+        }
+    }
+
+    private static int nearCacheStripe(String actualKey) {
+        int hash = actualKey.hashCode();
+        return (hash ^ (hash >>> 16)) & (NEAR_CACHE_GENERATION_STRIPES - 1);
+    }
+
     private <X> Uni<X> withConnection(Function<RedisConnection, Uni<X>> function) {
         return redis.connect()
                 .chain(new Function<RedisConnection, Uni<? extends X>>() {
@@ -4,6 +4,7 @@
 import java.time.Duration;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 public class RedisCacheInfo {
 
@@ -51,4 +52,15 @@ public class RedisCacheInfo {
      * no {@code COUNT} argument is present.
      */
     public OptionalInt invalidationScanSize = OptionalInt.empty();
+
+    /**
+     * If set, the duration for which entries are kept in a local near cache in front of Redis.
+     * If not set (default), there is no near cache.
+     */
+    public Optional<Duration> nearCacheExpireAfterWrite = Optional.empty();
+
+    /**
+     * The maximum number of entries of the near cache.
+     */
+    public OptionalLong nearCacheMaximumSize = OptionalLong.empty();
 }
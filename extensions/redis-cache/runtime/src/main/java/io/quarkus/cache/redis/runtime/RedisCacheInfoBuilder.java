@@ -67,6 +67,18 @@ public static Set<RedisCacheInfo> build(Set<String> cacheNames, RedisCachesRunti
                     cacheInfo.invalidationScanSize = defaultRuntimeConfig.invalidationScanSize();
                 }
 
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCacheExpireAfterWrite().isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = namedRuntimeConfig.nearCacheExpireAfterWrite();
+                } else if (defaultRuntimeConfig.nearCacheExpireAfterWrite().isPresent()) {
+                    cacheInfo.nearCacheExpireAfterWrite = defaultRuntimeConfig.nearCacheExpireAfterWrite();
+                }
+
+                if (namedRuntimeConfig != null && namedRuntimeConfig.nearCacheMaximumSize().isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = namedRuntimeConfig.nearCacheMaximumSize();
+                } else if (defaultRuntimeConfig.nearCacheMaximumSize().isPresent()) {
+                    cacheInfo.nearCacheMaximumSize = defaultRuntimeConfig.nearCacheMaximumSize();
+                }
+
                 result.add(cacheInfo);
             }
             return result;
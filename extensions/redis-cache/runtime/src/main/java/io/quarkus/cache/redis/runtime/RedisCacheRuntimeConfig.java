@@ -3,6 +3,7 @@
 import java.time.Duration;
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
 
@@ -49,4 +50,21 @@ public interface RedisCacheRuntimeConfig {
      * no {@code COUNT} argument is present.
      */
     OptionalInt invalidationScanSize();
+
+    /**
+     * If set, a local, in-memory near cache is kept in front of Redis and entries are kept in it for this duration
+     * after they were read from, or written to, Redis. Reads served by the near cache do not reach Redis.
+     * <p>
+     * The near cache is only invalidated by the invalidations performed by the current application instance, so entries
+     * updated or invalidated by other instances may be served until this duration elapses. It should therefore be kept
+     * short. Reads served by the near cache do not extend the Redis {@code expire-after-access} duration.
+     * If not set (default), there is no near cache.
+     */
+    Optional<Duration> nearCacheExpireAfterWrite();
+
+    /**
+     * The maximum number of entries the near cache may contain, {@code 10000} if not set.
+     * Only used if {@code near-cache-expire-after-write} is set.
+     */
+    OptionalLong nearCacheMaximumSize();
 }
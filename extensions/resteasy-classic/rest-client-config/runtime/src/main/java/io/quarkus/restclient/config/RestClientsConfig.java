@@ -276,6 +276,16 @@ public interface RestClientsConfig {
     @WithDefault("false")
     boolean http2();
 
+    /**
+     * The maximum number of concurrent streams of an HTTP/2 connection. The maximum number of concurrent streams advertised
+     * by the server is used if this value is not set or is greater.
+     * <p>
+     * This property is not applicable to the RESTEasy Client.
+     * <p>
+     * Can be overwritten by client-specific settings.
+     */
+    OptionalInt http2MultiplexingLimit();
+
     /**
      * Configures two different things:
      * <ul>
@@ -374,12 +384,46 @@ interface RestClientMultipartConfig {
         OptionalInt maxChunkSize();
     }
 
+    interface RestClientConcurrencyLimitConfig {
+        /**
+         * If set to {@code true}, the number of concurrent requests of this REST Client is limited. The limit is adapted
+         * from the observed request durations with the Vegas algorithm: it grows while the durations stay close to the
+         * lowest observed duration and shrinks when they increase, which means the requests are queued downstream. The
+         * requests exceeding the limit fail immediately with a {@code ProcessingException}.
+         * <p>
+         * This property is applicable to reactive REST clients only.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * The initial limit of concurrent requests.
+         * <p>
+         * This property is applicable to reactive REST clients only.
+         */
+        @WithDefault("20")
+        int initialLimit();
+
+        /**
+         * The maximum limit of concurrent requests.
+         * <p>
+         * This property is applicable to reactive REST clients only.
+         */
+        @WithDefault("1000")
+        int maxLimit();
+    }
+
     interface RestClientConfig {
         /**
          * Multipart configuration.
          */
         RestClientMultipartConfig multipart();
 
+        /**
+         * Adaptive concurrency limit configuration.
+         */
+        RestClientConcurrencyLimitConfig concurrencyLimit();
+
         /**
          * The base URL to use for this service. This property or the `uri` property is considered required, unless
          * the `baseUri` attribute is configured in the `@RegisterRestClient` annotation.
@@ -613,6 +657,14 @@ default Optional<String> uriReload() {
          */
         Optional<Boolean> http2();
 
+        /**
+         * The maximum number of concurrent streams of an HTTP/2 connection. The maximum number of concurrent streams
+         * advertised by the server is used if this value is not set or is greater.
+         * <p>
+         * This property is not applicable to the RESTEasy Client.
+         */
+        OptionalInt http2MultiplexingLimit();
+
         /**
          * Configures two different things:
          * <ul>
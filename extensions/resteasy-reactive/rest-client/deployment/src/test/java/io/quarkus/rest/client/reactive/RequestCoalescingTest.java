@@ -0,0 +1,193 @@
+package io.quarkus.rest.client.reactive;
+
+import static io.quarkus.rest.client.reactive.RestClientTestUtil.setUrlForClass;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.GET;
+import jakarta.ws.rs.Path;
+import jakarta.ws.rs.PathParam;
+import jakarta.ws.rs.Produces;
+import jakarta.ws.rs.core.MediaType;
+
+import org.eclipse.microprofile.rest.client.annotation.RegisterProvider;
+import org.eclipse.microprofile.rest.client.inject.RegisterRestClient;
+import org.eclipse.microprofile.rest.client.inject.RestClient;
+import org.jboss.resteasy.reactive.client.spi.ResteasyReactiveClientRequestContext;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+public class RequestCoalescingTest {
+
+    private static final int REQUESTS = 5;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Client.class, Resource.class, Greeting.class, TrackingCoalescingFilter.class)
+                    .addAsResource(
+                            new StringAsset(setUrlForClass(Client.class)),
+                            "application.properties"));
+
+    @RestClient
+    Client client;
+
+    @Test
+    void shouldCoalesceConcurrentRequests() throws Exception {
+        int invocations = Resource.invocations.get();
+        List<CompletableFuture<String>> results = sendConcurrently("slow", () -> client.get("slow"));
+        for (CompletableFuture<String> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo("slow");
+        }
+        assertThat(Resource.invocations.get() - invocations).isEqualTo(1);
+
+        // the requests which are not concurrent are sent on their own
+        invocations = Resource.invocations.get();
+        assertThat(client.get("fast").await().atMost(Duration.ofSeconds(10))).isEqualTo("fast");
+        assertThat(client.get("fast").await().atMost(Duration.ofSeconds(10))).isEqualTo("fast");
+        assertThat(Resource.invocations.get()).isEqualTo(invocations + 2);
+    }
+
+    @Test
+    void shouldShareJsonEntity() throws Exception {
+        int invocations = Resource.invocations.get();
+        List<CompletableFuture<Greeting>> results = sendConcurrently("slow-json", () -> client.getJson("slow-json"));
+        for (CompletableFuture<Greeting> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS).message).isEqualTo("slow-json");
+        }
+        assertThat(Resource.invocations.get() - invocations).isEqualTo(1);
+    }
+
+    @Test
+    void shouldShareBinaryEntity() throws Exception {
+        int invocations = Resource.invocations.get();
+        List<CompletableFuture<byte[]>> results = sendConcurrently("slow-bytes", () -> client.getBytes("slow-bytes"));
+        for (CompletableFuture<byte[]> result : results) {
+            assertThat(result.get(10, TimeUnit.SECONDS)).isEqualTo("slow-bytes".getBytes(StandardCharsets.UTF_8));
+        }
+        assertThat(Resource.invocations.get() - invocations).isEqualTo(1);
+    }
+
+    /**
+     * Sends a first request, waits for the server to receive it and sends the other requests while it is in flight. The
+     * server responds once all the other requests have joined the flight of the first one.
+     */
+    private static <T> List<CompletableFuture<T>> sendConcurrently(String value, Supplier<Uni<T>> request)
+            throws InterruptedException {
+        List<CompletableFuture<T>> results = new ArrayList<>();
+        results.add(request.get().subscribeAsCompletionStage());
+        assertThat(Resource.started(value).await(10, TimeUnit.SECONDS)).isTrue();
+        for (int i = 1; i < REQUESTS; i++) {
+            results.add(request.get().subscribeAsCompletionStage());
+        }
+        assertThat(TrackingCoalescingFilter.filtered(value).await(10, TimeUnit.SECONDS)).isTrue();
+        Resource.release(value).countDown();
+        return results;
+    }
+
+    @Path("/")
+    @RegisterRestClient
+    @RegisterProvider(TrackingCoalescingFilter.class)
+    @Produces(MediaType.TEXT_PLAIN)
+    interface Client {
+        @GET
+        @Path("{value}")
+        Uni<String> get(@PathParam("value") String value);
+
+        @GET
+        @Path("json/{value}")
+        @Produces(MediaType.APPLICATION_JSON)
+        Uni<Greeting> getJson(@PathParam("value") String value);
+
+        @GET
+        @Path("bytes/{value}")
+        @Produces(MediaType.APPLICATION_OCTET_STREAM)
+        Uni<byte[]> getBytes(@PathParam("value") String value);
+    }
+
+    public static class Greeting {
+        public String message;
+
+        public Greeting() {
+        }
+
+        public Greeting(String message) {
+            this.message = message;
+        }
+    }
+
+    @Priority(Integer.MAX_VALUE)
+    public static class TrackingCoalescingFilter extends RequestCoalescingFilter {
+
+        static final Map<String, CountDownLatch> filtered = new ConcurrentHashMap<>();
+
+        static CountDownLatch filtered(String value) {
+            return filtered.computeIfAbsent(value, v -> new CountDownLatch(REQUESTS));
+        }
+
+        @Override
+        public void filter(ResteasyReactiveClientRequestContext requestContext) {
+            super.filter(requestContext);
+            // a request which is not the first one of its flight has joined it at this point
+            String path = requestContext.getUri().getPath();
+            filtered(path.substring(path.lastIndexOf('/') + 1)).countDown();
+        }
+    }
+
+    @Path("/")
+    static class Resource {
+
+        static final AtomicInteger invocations = new AtomicInteger();
+        static final Map<String, CountDownLatch> started = new ConcurrentHashMap<>();
+        static final Map<String, CountDownLatch> release = new ConcurrentHashMap<>();
+
+        static CountDownLatch started(String value) {
+            return started.computeIfAbsent(value, v -> new CountDownLatch(1));
+        }
+
+        static CountDownLatch release(String value) {
+            return release.computeIfAbsent(value, v -> new CountDownLatch(1));
+        }
+
+        @GET
+        @Path("{value}")
+        public String get(@PathParam("value") String value) throws InterruptedException {
+            invocations.incrementAndGet();
+            if (value.startsWith("slow")) {
+                started(value).countDown();
+                release(value).await(10, TimeUnit.SECONDS);
+            }
+            return value;
+        }
+
+        @GET
+        @Path("json/{value}")
+        @Produces(MediaType.APPLICATION_JSON)
+        public Greeting getJson(@PathParam("value") String value) throws InterruptedException {
+            return new Greeting(get(value));
+        }
+
+        @GET
+        @Path("bytes/{value}")
+        @Produces(MediaType.APPLICATION_OCTET_STREAM)
+        public byte[] getBytes(@PathParam("value") String value) throws InterruptedException {
+            return get(value).getBytes(StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package io.quarkus.rest.client.reactive;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.infrastructure.Infrastructure;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+
+/**
+ * Collects the individual loads of a key issued within a short window and dispatches them as a single bulk call, for
+ * example to turn many {@code GET /users/{id}} calls into one {@code POST /users:batch} call of a REST Client:
+ *
+ * <pre>
+ * BatchLoader&lt;String, User&gt; users = new BatchLoader&lt;&gt;(ids -&gt; usersClient.getUsers(ids), 100, Duration.ZERO);
+ *
+ * Uni&lt;User&gt; user = users.load(id);
+ * </pre>
+ * <p>
+ * A batch is dispatched when it reaches the maximum size or when the window elapses. A window of zero dispatches the
+ * batch once the current Vert.x event loop task completes, so the loads issued while processing the same event are
+ * batched together. The keys of a batch are distinct: the loads of the same key share the same result. A key missing from
+ * the map returned by the bulk call results in a {@code null} item, and a failure of the bulk call fails all the loads
+ * of the batch.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public class BatchLoader<K, V> {
+
+    private final Function<List<K>, Uni<Map<K, V>>> bulkLoader;
+    private final int maxBatchSize;
+    private final Duration window;
+
+    // guarded by this
+    private Map<K, List<Waiter<V>>> pending = new LinkedHashMap<>();
+
+    /**
+     * @param bulkLoader the function loading the values of a batch of distinct keys
+     * @param maxBatchSize the maximum number of distinct keys of a batch
+     * @param window the maximum time a load waits for other loads before the batch is dispatched
+     */
+    public BatchLoader(Function<List<K>, Uni<Map<K, V>>> bulkLoader, int maxBatchSize, Duration window) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("The maximum batch size must be greater than 0");
+        }
+        if (window.isNegative()) {
+            throw new IllegalArgumentException("The batch window must not be negative");
+        }
+        this.bulkLoader = Objects.requireNonNull(bulkLoader);
+        this.maxBatchSize = maxBatchSize;
+        this.window = window;
+    }
+
+    /**
+     * The key is only added to a batch when the returned {@link Uni} is subscribed, and removed from the batch if the
+     * subscription is cancelled before the batch is dispatched. The item or failure is emitted on the Vert.x context of the
+     * subscriber, if any.
+     *
+     * @param key the key
+     * @return the value of the key, or {@code null} if the bulk call did not return a value for this key
+     */
+    public Uni<V> load(K key) {
+        Objects.requireNonNull(key);
+        return Uni.createFrom().emitter(emitter -> enqueue(key, new Waiter<>(emitter, Vertx.currentContext())));
+    }
+
+    private void enqueue(K key, Waiter<V> waiter) {
+        Map<K, List<Waiter<V>>> full = null;
+        Map<K, List<Waiter<V>>> started = null;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                started = pending;
+            }
+            pending.computeIfAbsent(key, k -> new ArrayList<>(1)).add(waiter);
+            if (pending.size() >= maxBatchSize) {
+                full = pending;
+                pending = new LinkedHashMap<>();
+            }
+        }
+        waiter.emitter.onTermination(() -> remove(key, waiter));
+        if (full != null) {
+            dispatch(full);
+        } else if (started != null) {
+            scheduleFlush(started);
+        }
+    }
+
+    private synchronized void remove(K key, Waiter<V> waiter) {
+        List<Waiter<V>> waiters = pending.get(key);
+        if (waiters != null && waiters.remove(waiter) && waiters.isEmpty()) {
+            pending.remove(key);
+            if (pending.isEmpty()) {
+                // the scheduled flush of the abandoned batch must not dispatch the next one early
+                pending = new LinkedHashMap<>();
+            }
+        }
+    }
+
+    private void scheduleFlush(Map<K, List<Waiter<V>>> batch) {
+        Context context = Vertx.currentContext();
+        if (context == null) {
+            Infrastructure.getDefaultWorkerPool().schedule(() -> flush(batch), window.toMillis(), TimeUnit.MILLISECONDS);
+        } else if (window.toMillis() == 0) {
+            context.runOnContext(v -> flush(batch));
+        } else {
+            // a timer set from a context runs on this context
+            context.owner().setTimer(window.toMillis(), id -> flush(batch));
+        }
+    }
+
+    private void flush(Map<K, List<Waiter<V>>> batch) {
+        synchronized (this) {
+            if (pending != batch) {
+                // the batch has already been dispatched because it reached the maximum size, or has been abandoned
+                return;
+            }
+            pending = new LinkedHashMap<>();
+        }
+        dispatch(batch);
+    }
+
+    private void dispatch(Map<K, List<Waiter<V>>> batch) {
+        Uni<Map<K, V>> result;
+        try {
+            result = bulkLoader.apply(new ArrayList<>(batch.keySet()));
+        } catch (Throwable t) {
+            fail(batch, t);
+            return;
+        }
+        result.subscribe().with(values -> {
+            for (Map.Entry<K, List<Waiter<V>>> entry : batch.entrySet()) {
+                V value = values == null ? null : values.get(entry.getKey());
+                for (Waiter<V> waiter : entry.getValue()) {
+                    waiter.emit(() -> waiter.emitter.complete(value));
+                }
+            }
+        }, failure -> fail(batch, failure));
+    }
+
+    private static <K, V> void fail(Map<K, List<Waiter<V>>> batch, Throwable failure) {
+        for (List<Waiter<V>> waiters : batch.values()) {
+            for (Waiter<V> waiter : waiters) {
+                waiter.emit(() -> waiter.emitter.fail(failure));
+            }
+        }
+    }
+
+    /**
+     * A subscriber waiting for the value of a key, with the Vert.x context it subscribed on, or {@code null}.
+     */
+    private record Waiter<V>(UniEmitter<? super V> emitter, Context context) {
+
+        void emit(Runnable action) {
+            if (context == null || context == Vertx.currentContext()) {
+                action.run();
+            } else {
+                // the batch is dispatched on the context of one of the subscribers
+                context.runOnContext(v -> action.run());
+            }
+        }
+    }
+}
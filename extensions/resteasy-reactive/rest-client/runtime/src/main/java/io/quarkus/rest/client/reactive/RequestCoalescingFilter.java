@@ -0,0 +1,181 @@
+package io.quarkus.rest.client.reactive;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.client.ClientResponseContext;
+import jakarta.ws.rs.core.Response;
+
+import org.jboss.resteasy.reactive.client.impl.ClientRequestContextImpl;
+import org.jboss.resteasy.reactive.client.impl.RestClientRequestContext;
+import org.jboss.resteasy.reactive.client.spi.ResteasyReactiveClientRequestContext;
+import org.jboss.resteasy.reactive.client.spi.ResteasyReactiveClientRequestFilter;
+import org.jboss.resteasy.reactive.client.spi.ResteasyReactiveClientResponseFilter;
+import org.jboss.resteasy.reactive.common.util.CaseInsensitiveMap;
+
+import io.netty.buffer.ByteBufInputStream;
+
+/**
+ * A filter that coalesces identical {@code GET} requests which are in flight at the same time: only the first request is
+ * sent, the other requests wait for its response and get a copy of it.
+ * <p>
+ * Requests are identical if they have the same URI and the same headers. This filter is not used by default, register it
+ * on the REST Client interface with {@code @RegisterProvider(RequestCoalescingFilter.class)}. It runs after the other
+ * request filters, so that the headers they add, for example the {@code Authorization} header, are taken into account.
+ * <p>
+ * Only the responses whose entity has been fully read are shared. If the response can not be shared or if the first
+ * request fails, the waiting requests are sent on their own.
+ */
+@Priority(Integer.MAX_VALUE)
+public class RequestCoalescingFilter implements ResteasyReactiveClientRequestFilter, ResteasyReactiveClientResponseFilter {
+
+    private static final String FLIGHT_PROPERTY = RequestCoalescingFilter.class.getName() + ".flight";
+
+    private final ConcurrentMap<String, Flight> flights = new ConcurrentHashMap<>();
+
+    @Override
+    public void filter(ResteasyReactiveClientRequestContext requestContext) {
+        if (!HttpMethod.GET.equals(requestContext.getMethod()) || requestContext.hasEntity()
+                || !(requestContext instanceof ClientRequestContextImpl)) {
+            return;
+        }
+        final String key = getKey(requestContext);
+        final Flight flight = new Flight();
+        Flight inFlight = flights.putIfAbsent(key, flight);
+        if (inFlight == null) {
+            requestContext.setProperty(FLIGHT_PROPERTY, flight);
+            ((ClientRequestContextImpl) requestContext).getRestClientRequestContext().getResult()
+                    .whenComplete(new BiConsumer<Object, Throwable>() {
+                        @Override
+                        public void accept(Object response, Throwable failure) {
+                            flights.remove(key, flight);
+                            flight.complete();
+                        }
+                    });
+        } else {
+            inFlight.join((ClientRequestContextImpl) requestContext);
+        }
+    }
+
+    @Override
+    public void filter(ResteasyReactiveClientRequestContext requestContext, ClientResponseContext responseContext) {
+        Flight flight = (Flight) requestContext.getProperty(FLIGHT_PROPERTY);
+        if (flight == null || !flight.hasWaiting()) {
+            // nobody waits for this response, there is no need to buffer it
+            return;
+        }
+        byte[] entity = null;
+        InputStream entityStream = responseContext.getEntityStream();
+        if (entityStream != null) {
+            if (!(entityStream instanceof ByteBufInputStream) && !(entityStream instanceof ByteArrayInputStream)) {
+                // the entity is streamed, it can only be read once
+                return;
+            }
+            try (InputStream in = entityStream) {
+                entity = in.readAllBytes();
+            } catch (IOException e) {
+                return;
+            }
+            responseContext.setEntityStream(new ByteArrayInputStream(entity));
+        }
+        CaseInsensitiveMap<String> headers = new CaseInsensitiveMap<>();
+        for (Map.Entry<String, List<String>> header : responseContext.getHeaders().entrySet()) {
+            headers.put(header.getKey(), new ArrayList<>(header.getValue()));
+        }
+        flight.response = new SharedResponse(responseContext.getStatus(),
+                responseContext.getStatusInfo().getReasonPhrase(), headers, entity);
+    }
+
+    private static String getKey(ResteasyReactiveClientRequestContext requestContext) {
+        return requestContext.getUri().toString() + ' ' + new TreeMap<>(requestContext.getStringHeaders());
+    }
+
+    private static final class Flight {
+
+        private List<ClientRequestContextImpl> waiting = new ArrayList<>();
+        private volatile SharedResponse response;
+
+        void join(ClientRequestContextImpl requestContext) {
+            synchronized (this) {
+                if (waiting != null) {
+                    requestContext.suspend();
+                    waiting.add(requestContext);
+                    return;
+                }
+            }
+            // the flight has just completed
+            if (response != null) {
+                response.abort(requestContext);
+            }
+        }
+
+        /**
+         * Whether requests are waiting for the response. If not, the flight is closed and the requests that join it later
+         * are sent on their own.
+         */
+        synchronized boolean hasWaiting() {
+            if (waiting == null) {
+                return false;
+            }
+            if (waiting.isEmpty()) {
+                waiting = null;
+                return false;
+            }
+            return true;
+        }
+
+        void complete() {
+            List<ClientRequestContextImpl> waiting;
+            synchronized (this) {
+                waiting = this.waiting;
+                this.waiting = null;
+            }
+            if (waiting == null) {
+                return;
+            }
+            for (ClientRequestContextImpl requestContext : waiting) {
+                if (response != null) {
+                    response.abort(requestContext);
+                }
+                // without a shared response the request is sent on its own
+                requestContext.resume();
+            }
+        }
+    }
+
+    private record SharedResponse(int status, String reasonPhrase, CaseInsensitiveMap<String> headers,
+            byte[] entity) {
+
+        void abort(ClientRequestContextImpl requestContext) {
+            Response.ResponseBuilder builder = Response.status(status, reasonPhrase);
+            for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+                for (String value : header.getValue()) {
+                    builder.header(header.getKey(), value);
+                }
+            }
+            if (entity != null) {
+                builder.entity(entity);
+            }
+            Response response = builder.build();
+            requestContext.abortWith(response);
+            // ClientRequestFilterRestHandler copies the status, reason phrase and headers of the abort response to the
+            // RestClientRequestContext right after the filter returns, but this request has been suspended by the filter
+            // and is aborted later, when the shared response is available. The same fields are therefore set directly here,
+            // keep them in sync with ClientRequestFilterRestHandler.handle().
+            RestClientRequestContext restClientRequestContext = requestContext.getRestClientRequestContext();
+            restClientRequestContext.setResponseStatus(status);
+            restClientRequestContext.setResponseReasonPhrase(reasonPhrase);
+            restClientRequestContext.setResponseHeaders(response.getStringHeaders());
+        }
+    }
+}
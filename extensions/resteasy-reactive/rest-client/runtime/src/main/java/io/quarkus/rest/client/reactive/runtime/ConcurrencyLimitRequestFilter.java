@@ -0,0 +1,162 @@
+package io.quarkus.rest.client.reactive.runtime;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import jakarta.annotation.Priority;
+import jakarta.ws.rs.ProcessingException;
+
+import org.jboss.resteasy.reactive.client.impl.ClientRequestContextImpl;
+import org.jboss.resteasy.reactive.client.spi.ResteasyReactiveClientRequestContext;
+import org.jboss.resteasy.reactive.client.spi.ResteasyReactiveClientRequestFilter;
+import org.jboss.resteasy.reactive.common.jaxrs.ResponseImpl;
+
+/**
+ * Limits the number of concurrent requests of a REST Client. The limit is adapted with the TCP Vegas algorithm, in the same
+ * way as the overload detector of the load shedding extension: it grows while the request durations stay close to the
+ * lowest observed duration, and shrinks when the durations increase because the requests are queued by the server.
+ * <p>
+ * The requests exceeding the limit are failed immediately. This filter runs after the other request filters so that the
+ * time they spend, for example to acquire a token, is not part of the measured durations. Only the successful responses
+ * are sampled: a connection failure or a server error is usually much faster than a regular response, and would otherwise
+ * lower the baseline duration until the limit collapses. Instead, a failure, such as a timeout, or a {@code 503} response
+ * counts as a drop which decreases the limit, as in the Vegas limiters. The other server errors only release the request.
+ * <p>
+ * The limit computation is a copy of {@code io.quarkus.load.shedding.runtime.OverloadDetector}, keep both in sync.
+ */
+@Priority(Integer.MAX_VALUE - 10)
+public class ConcurrencyLimitRequestFilter implements ResteasyReactiveClientRequestFilter {
+
+    private static final int ALPHA_FACTOR = 3;
+    private static final int BETA_FACTOR = 6;
+    private static final double PROBE_FACTOR = 30.0;
+
+    private final int maxLimit;
+
+    private final AtomicInteger currentRequests = new AtomicInteger();
+    private volatile long currentLimit;
+
+    // guards the fields below, which are only accessed by the thread that successfully set this flag
+    private final AtomicBoolean updating = new AtomicBoolean();
+
+    private long lowestRequestTime = Long.MAX_VALUE;
+    private double probeCount = 0.0;
+    private double probeJitter;
+
+    public ConcurrencyLimitRequestFilter(int initialLimit, int maxLimit) {
+        this.maxLimit = maxLimit;
+        this.currentLimit = Math.max(1, Math.min(maxLimit, initialLimit));
+        resetProbeJitter();
+    }
+
+    @Override
+    public void filter(ResteasyReactiveClientRequestContext requestContext) {
+        if (!(requestContext instanceof ClientRequestContextImpl clientRequestContext)
+                || clientRequestContext.getAbortedWith() != null) {
+            return;
+        }
+        int current = currentRequests.incrementAndGet();
+        if (current > currentLimit) {
+            currentRequests.decrementAndGet();
+            throw new ProcessingException("The limit of " + currentLimit + " concurrent requests to "
+                    + requestContext.getUri().getHost() + " has been reached");
+        }
+        long start = System.nanoTime();
+        clientRequestContext.getRestClientRequestContext().getResult()
+                .whenComplete(new BiConsumer<ResponseImpl, Throwable>() {
+                    @Override
+                    public void accept(ResponseImpl response, Throwable failure) {
+                        if (failure != null || (response != null && response.getStatus() == 503)) {
+                            requestDropped();
+                        } else if (response != null && response.getStatus() >= 500) {
+                            requestFailed();
+                        } else {
+                            requestEnd((System.nanoTime() - start) / 1_000);
+                        }
+                    }
+                });
+    }
+
+    long getCurrentLimit() {
+        return currentLimit;
+    }
+
+    void requestFailed() {
+        currentRequests.decrementAndGet();
+    }
+
+    void requestDropped() {
+        currentRequests.decrementAndGet();
+
+        if (updating.compareAndSet(false, true)) {
+            try {
+                // same decrease as when the queue is too large in update(), but the request time is not sampled
+                long currentLimit = this.currentLimit;
+                this.currentLimit = Math.max(1, currentLimit - (1 + (int) Math.log10(currentLimit)));
+            } finally {
+                updating.set(false);
+            }
+        }
+    }
+
+    // same as OverloadDetector.requestEnd()
+    void requestEnd(long timeInMicros) {
+        int current = currentRequests.getAndDecrement();
+
+        if (updating.compareAndSet(false, true)) {
+            try {
+                update(timeInMicros, current);
+            } finally {
+                updating.set(false);
+            }
+        }
+    }
+
+    // same as OverloadDetector.update(), with fixed alpha, beta and probe factors
+    private void update(long requestTime, int currentRequests) {
+        probeCount++;
+        if (PROBE_FACTOR * probeJitter * currentLimit <= probeCount) {
+            resetProbeJitter();
+            probeCount = 0.0;
+            lowestRequestTime = requestTime;
+            return;
+        }
+
+        if (requestTime < lowestRequestTime) {
+            lowestRequestTime = requestTime;
+            return;
+        }
+
+        long currentLimit = this.currentLimit;
+
+        if (2L * currentRequests < currentLimit) {
+            return;
+        }
+
+        int queueSize = (int) Math.ceil(currentLimit * (1.0 - (double) lowestRequestTime / (double) requestTime));
+
+        int currentLimitLog10Plus1 = 1 + (int) Math.log10(currentLimit);
+        int alpha = ALPHA_FACTOR * currentLimitLog10Plus1;
+        int beta = BETA_FACTOR * currentLimitLog10Plus1;
+
+        long newLimit;
+        if (queueSize <= currentLimitLog10Plus1) {
+            newLimit = currentLimit + beta;
+        } else if (queueSize < alpha) {
+            newLimit = currentLimit + currentLimitLog10Plus1;
+        } else if (queueSize > beta) {
+            newLimit = currentLimit - currentLimitLog10Plus1;
+        } else {
+            return;
+        }
+
+        newLimit = Math.max(1, Math.min(maxLimit, newLimit));
+        this.currentLimit = newLimit;
+    }
+
+    private void resetProbeJitter() {
+        probeJitter = ThreadLocalRandom.current().nextDouble(0.5, 1);
+    }
+}
@@ -544,6 +544,12 @@ public <T> T build(Class<T> aClass) throws IllegalStateException, RestClientDefi
             clientBuilder.alpn(restClients.alpn().get());
         }
 
+        if (!getConfiguration().hasProperty(QuarkusRestClientProperties.HTTP2_MULTIPLEXING_LIMIT)
+                && restClients.http2MultiplexingLimit().isPresent()) {
+            clientBuilder.property(QuarkusRestClientProperties.HTTP2_MULTIPLEXING_LIMIT,
+                    restClients.http2MultiplexingLimit().getAsInt());
+        }
+
         Boolean effectiveEnableCompression = enableCompression;
         if (effectiveEnableCompression == null) {
             if (restClients.enableCompression().isPresent()) {
@@ -156,6 +156,12 @@ private void configureCustomProperties(QuarkusRestClientBuilder builder) {
         Boolean http2 = oneOf(restClientConfig.http2()).orElse(configRoot.http2());
         builder.property(QuarkusRestClientProperties.HTTP2, http2);
 
+        OptionalInt http2MultiplexingLimit = oneOf(restClientConfig.http2MultiplexingLimit(),
+                configRoot.http2MultiplexingLimit());
+        if (http2MultiplexingLimit.isPresent()) {
+            builder.property(QuarkusRestClientProperties.HTTP2_MULTIPLEXING_LIMIT, http2MultiplexingLimit.getAsInt());
+        }
+
         Optional<Boolean> alpn = oneOf(restClientConfig.alpn(), configRoot.alpn());
         if (alpn.isPresent()) {
             builder.property(QuarkusRestClientProperties.ALPN, alpn.get());
@@ -365,6 +371,11 @@ private void configureProviders(QuarkusRestClientBuilder builder) {
         if (maybeProviders.isPresent()) {
             registerProviders(builder, maybeProviders.get());
         }
+
+        RestClientsConfig.RestClientConcurrencyLimitConfig concurrencyLimit = restClientConfig.concurrencyLimit();
+        if (concurrencyLimit.enabled()) {
+            builder.register(new ConcurrencyLimitRequestFilter(concurrencyLimit.initialLimit(), concurrencyLimit.maxLimit()));
+        }
     }
 
     private void registerProviders(QuarkusRestClientBuilder builder, String providersAsString) {
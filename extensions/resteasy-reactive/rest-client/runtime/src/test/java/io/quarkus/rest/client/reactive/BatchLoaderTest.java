@@ -0,0 +1,119 @@
+package io.quarkus.rest.client.reactive;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.subscription.Cancellable;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+
+public class BatchLoaderTest {
+
+    private final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+
+    private Uni<Map<Integer, String>> bulkLoad(List<Integer> keys) {
+        batches.add(keys);
+        Map<Integer, String> values = new HashMap<>();
+        for (Integer key : keys) {
+            if (key >= 0) {
+                values.put(key, "value" + key);
+            }
+        }
+        return Uni.createFrom().item(values);
+    }
+
+    @Test
+    public void testLoadsWithinWindowAreBatched() throws Exception {
+        BatchLoader<Integer, String> loader = new BatchLoader<>(this::bulkLoad, 100, Duration.ofMillis(100));
+        List<CompletableFuture<String>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            results.add(loader.load(i).subscribeAsCompletionStage());
+        }
+        results.add(loader.load(1).subscribeAsCompletionStage());
+        results.add(loader.load(-1).subscribeAsCompletionStage());
+        for (int i = 0; i < 5; i++) {
+            assertEquals("value" + i, results.get(i).get(5, TimeUnit.SECONDS));
+        }
+        assertEquals("value1", results.get(5).get(5, TimeUnit.SECONDS));
+        assertNull(results.get(6).get(5, TimeUnit.SECONDS));
+        assertEquals(List.of(List.of(0, 1, 2, 3, 4, -1)), batches);
+    }
+
+    @Test
+    public void testFullBatchIsDispatchedImmediately() throws Exception {
+        BatchLoader<Integer, String> loader = new BatchLoader<>(this::bulkLoad, 2, Duration.ofMinutes(1));
+        CompletableFuture<String> first = loader.load(1).subscribeAsCompletionStage();
+        CompletableFuture<String> second = loader.load(2).subscribeAsCompletionStage();
+        assertEquals("value1", first.get(5, TimeUnit.SECONDS));
+        assertEquals("value2", second.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of(List.of(1, 2)), batches);
+    }
+
+    @Test
+    public void testBulkFailureFailsAllLoads() {
+        BatchLoader<Integer, String> loader = new BatchLoader<>(
+                keys -> Uni.createFrom().failure(new IllegalStateException("boom")), 10, Duration.ofMillis(10));
+        CompletableFuture<String> first = loader.load(1).subscribeAsCompletionStage();
+        CompletableFuture<String> second = loader.load(2).subscribeAsCompletionStage();
+        ExecutionException e = assertThrows(ExecutionException.class, () -> first.get(5, TimeUnit.SECONDS));
+        assertEquals("boom", e.getCause().getMessage());
+        assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testCancelledLoadsAreRemovedFromBatch() throws Exception {
+        BatchLoader<Integer, String> loader = new BatchLoader<>(this::bulkLoad, 100, Duration.ofMillis(50));
+        Cancellable cancelled = loader.load(1).subscribe().with(item -> {
+        });
+        CompletableFuture<String> other = loader.load(2).subscribeAsCompletionStage();
+        cancelled.cancel();
+        assertEquals("value2", other.get(5, TimeUnit.SECONDS));
+        assertEquals(List.of(List.of(2)), batches);
+
+        // a batch whose loads are all cancelled is not dispatched
+        loader.load(3).subscribe().with(item -> {
+        }).cancel();
+        Thread.sleep(200);
+        assertEquals(List.of(List.of(2)), batches);
+    }
+
+    @Test
+    public void testItemsAreEmittedOnSubscriberContext() throws Exception {
+        Vertx vertx = Vertx.vertx();
+        try {
+            BatchLoader<Integer, String> loader = new BatchLoader<>(this::bulkLoad, 100, Duration.ofMillis(50));
+            ContextInternal root = (ContextInternal) vertx.getOrCreateContext();
+            List<Context> contexts = List.of(root.duplicate(), root.duplicate());
+            List<CompletableFuture<Context>> emittedOn = new ArrayList<>();
+            for (int i = 0; i < contexts.size(); i++) {
+                int key = i;
+                CompletableFuture<Context> result = new CompletableFuture<>();
+                emittedOn.add(result);
+                contexts.get(i).runOnContext(v -> loader.load(key).subscribe()
+                        .with(item -> result.complete(Vertx.currentContext()), result::completeExceptionally));
+            }
+            for (int i = 0; i < contexts.size(); i++) {
+                assertSame(contexts.get(i), emittedOn.get(i).get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(List.of(List.of(0, 1)), batches);
+        } finally {
+            vertx.close().toCompletionStage().toCompletableFuture().get(5, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package io.quarkus.rest.client.reactive.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
+import jakarta.ws.rs.ProcessingException;
+
+import org.jboss.resteasy.reactive.client.impl.ClientRequestContextImpl;
+import org.jboss.resteasy.reactive.client.impl.RestClientRequestContext;
+import org.jboss.resteasy.reactive.common.jaxrs.ResponseImpl;
+import org.junit.jupiter.api.Test;
+
+public class ConcurrencyLimitRequestFilterTest {
+
+    @Test
+    void shouldRejectRequestsOverLimit() {
+        ConcurrencyLimitRequestFilter filter = new ConcurrencyLimitRequestFilter(2, 10);
+        CompletableFuture<ResponseImpl> first = new CompletableFuture<>();
+        filter.filter(requestContext(first));
+        filter.filter(requestContext(new CompletableFuture<>()));
+
+        ProcessingException e = assertThrows(ProcessingException.class,
+                () -> filter.filter(requestContext(new CompletableFuture<>())));
+        assertTrue(e.getMessage().contains("example.org"), e.getMessage());
+
+        first.complete(null);
+        filter.filter(requestContext(new CompletableFuture<>()));
+    }
+
+    @Test
+    void shouldKeepLimitWithinBounds() {
+        ConcurrencyLimitRequestFilter filter = new ConcurrencyLimitRequestFilter(50, 10);
+        assertEquals(10, filter.getCurrentLimit());
+
+        for (int i = 0; i < 1_000; i++) {
+            List<CompletableFuture<ResponseImpl>> results = new ArrayList<>();
+            for (long j = 0; j < filter.getCurrentLimit(); j++) {
+                CompletableFuture<ResponseImpl> result = new CompletableFuture<>();
+                filter.filter(requestContext(result));
+                results.add(result);
+            }
+            for (CompletableFuture<ResponseImpl> result : results) {
+                result.complete(null);
+            }
+            assertTrue(filter.getCurrentLimit() >= 1 && filter.getCurrentLimit() <= 10);
+        }
+    }
+
+    @Test
+    void shouldShrinkLimitOnTimeouts() {
+        ConcurrencyLimitRequestFilter filter = new ConcurrencyLimitRequestFilter(100, 100);
+
+        long previousLimit = filter.getCurrentLimit();
+        for (int i = 0; i < 10; i++) {
+            CompletableFuture<ResponseImpl> timedOut = new CompletableFuture<>();
+            filter.filter(requestContext(timedOut));
+            timedOut.completeExceptionally(new ProcessingException(new TimeoutException()));
+            assertTrue(filter.getCurrentLimit() < previousLimit);
+            previousLimit = filter.getCurrentLimit();
+        }
+
+        for (int i = 0; i < 100; i++) {
+            CompletableFuture<ResponseImpl> unavailable = new CompletableFuture<>();
+            filter.filter(requestContext(unavailable));
+            unavailable.complete(response(503));
+        }
+        assertEquals(1, filter.getCurrentLimit());
+
+        // the dropped requests have been released
+        CompletableFuture<ResponseImpl> result = new CompletableFuture<>();
+        filter.filter(requestContext(result));
+        assertThrows(ProcessingException.class, () -> filter.filter(requestContext(new CompletableFuture<>())));
+        result.complete(response(200));
+    }
+
+    @Test
+    void shouldNotSampleFailures() {
+        ConcurrencyLimitRequestFilter filter = new ConcurrencyLimitRequestFilter(10, 100);
+
+        for (int i = 0; i < 1_000; i++) {
+            CompletableFuture<ResponseImpl> failed = new CompletableFuture<>();
+            filter.filter(requestContext(failed));
+            failed.completeExceptionally(new ProcessingException("Connection refused"));
+
+            CompletableFuture<ResponseImpl> serverError = new CompletableFuture<>();
+            filter.filter(requestContext(serverError));
+            serverError.complete(response(500));
+        }
+        assertEquals(1, filter.getCurrentLimit());
+
+        // the fast failures did not lower the baseline, so regular durations let the limit grow again
+        for (int i = 0; i < 100; i++) {
+            filter.filter(requestContext(new CompletableFuture<>()));
+            filter.requestEnd(1_000);
+        }
+        assertTrue(filter.getCurrentLimit() > 1, "limit: " + filter.getCurrentLimit());
+    }
+
+    private static ResponseImpl response(int status) {
+        ResponseImpl response = mock(ResponseImpl.class);
+        when(response.getStatus()).thenReturn(status);
+        return response;
+    }
+
+    private static ClientRequestContextImpl requestContext(CompletableFuture<ResponseImpl> result) {
+        RestClientRequestContext restClientRequestContext = mock(RestClientRequestContext.class);
+        when(restClientRequestContext.getResult()).thenReturn(result);
+        ClientRequestContextImpl requestContext = mock(ClientRequestContextImpl.class);
+        when(requestContext.getRestClientRequestContext()).thenReturn(restClientRequestContext);
+        when(requestContext.getUri()).thenReturn(URI.create("http://example.org/hello"));
+        return requestContext;
+    }
+}
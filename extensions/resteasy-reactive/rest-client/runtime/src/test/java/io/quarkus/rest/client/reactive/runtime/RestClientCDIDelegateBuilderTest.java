@@ -6,6 +6,7 @@
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECTION_POOL_SIZE;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECTION_TTL;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.DISABLE_CONTEXTUAL_ERROR_MESSAGES;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HTTP2_MULTIPLEXING_LIMIT;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.KEEP_ALIVE_ENABLED;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_CHUNK_SIZE;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_REDIRECTS;
@@ -140,11 +141,13 @@ public List<RegisteredRestClient> getRestClients() {
         verify(restClientBuilderMock).property(STATIC_HEADERS, Map.of("header1", "value"));
         verify(restClientBuilderMock).property(CONNECTION_TTL, 10); // value converted to seconds
         verify(restClientBuilderMock).property(CONNECTION_POOL_SIZE, 103);
+        verify(restClientBuilderMock).property(HTTP2_MULTIPLEXING_LIMIT, 105);
         verify(restClientBuilderMock).property(KEEP_ALIVE_ENABLED, false);
         verify(restClientBuilderMock).property(MAX_REDIRECTS, 104);
         verify(restClientBuilderMock).property(MAX_CHUNK_SIZE, 1024);
         verify(restClientBuilderMock).followRedirects(true);
         verify(restClientBuilderMock).register(MyResponseFilter1.class);
+        verify(restClientBuilderMock).register(Mockito.any(ConcurrencyLimitRequestFilter.class));
         verify(restClientBuilderMock).queryParamStyle(COMMA_SEPARATED);
 
         verify(restClientBuilderMock).trustStore(Mockito.any(), Mockito.anyString());
@@ -194,6 +197,7 @@ public List<RegisteredRestClient> getRestClients() {
         verify(restClientBuilderMock).property(STATIC_HEADERS, Map.of("header2", "value"));
         verify(restClientBuilderMock).property(CONNECTION_TTL, 20);
         verify(restClientBuilderMock).property(CONNECTION_POOL_SIZE, 203);
+        verify(restClientBuilderMock).property(HTTP2_MULTIPLEXING_LIMIT, 205);
         verify(restClientBuilderMock).property(KEEP_ALIVE_ENABLED, true);
         verify(restClientBuilderMock).property(MAX_REDIRECTS, 204);
         verify(restClientBuilderMock).property(MAX_CHUNK_SIZE, 1024);
@@ -221,6 +225,7 @@ private static Map<String, String> createSampleConfigRoot() {
         rootConfig.put("quarkus.rest-client.headers.header2", "value");
         rootConfig.put("quarkus.rest-client.connection-ttl", "20000");
         rootConfig.put("quarkus.rest-client.connection-pool-size", "203");
+        rootConfig.put("quarkus.rest-client.http2-multiplexing-limit", "205");
         rootConfig.put("quarkus.rest-client.keep-alive-enabled", "true");
         rootConfig.put("quarkus.rest-client.max-redirects", "204");
         rootConfig.put("quarkus.rest-client.multipart-max-chunk-size", "1024");
@@ -256,6 +261,8 @@ private static Map<String, String> createSampleClientConfig(final String restCli
         clientConfig.put("quarkus.rest-client." + restClientName + ".headers.header1", "value");
         clientConfig.put("quarkus.rest-client." + restClientName + ".connection-ttl", "10000");
         clientConfig.put("quarkus.rest-client." + restClientName + ".connection-pool-size", "103");
+        clientConfig.put("quarkus.rest-client." + restClientName + ".http2-multiplexing-limit", "105");
+        clientConfig.put("quarkus.rest-client." + restClientName + ".concurrency-limit.enabled", "true");
         clientConfig.put("quarkus.rest-client." + restClientName + ".keep-alive-enabled", "false");
         clientConfig.put("quarkus.rest-client." + restClientName + ".max-redirects", "104");
         clientConfig.put("quarkus.rest-client." + restClientName + ".follow-redirects", "true");
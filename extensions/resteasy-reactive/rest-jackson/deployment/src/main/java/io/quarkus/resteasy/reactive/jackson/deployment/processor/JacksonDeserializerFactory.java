@@ -25,6 +25,7 @@
 import org.jboss.jandex.TypeVariable;
 import org.jboss.jandex.VoidType;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.core.JacksonException;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.ObjectCodec;
@@ -128,8 +129,9 @@
  * factory enqueues a code generation also for that type. The same is valid for both arrays of that type, like
  * {@code Address[]}, and collections, like {@code List&lt;Address&gt}.
  *
- * Also note that this works only if the Java class to be deserialized has an empty constructor, while the generation of
- * this deserializer is skipped in all other cases. In particular this cannot work with records.
+ * Also note that this works only if the Java class to be deserialized has an empty constructor, is a record or has a
+ * public constructor annotated with {@code @JsonCreator}, while the generation of this deserializer is skipped in all other
+ * cases. In the last two cases the constructor parameters are read from the json tree before the object is created.
  *
  * If the class to be deserialized has one or more generics parameter, the generated deserializer also implements the
  * {@code ContextualDeserializer} interface. For instance for a class like the following
@@ -519,7 +521,17 @@ private static ResultHandle readValueForPrimitiveFields(BytecodeCreator bytecode
 
     @Override
     protected boolean shouldGenerateCodeFor(ClassInfo classInfo) {
-        return super.shouldGenerateCodeFor(classInfo) && classInfo.hasNoArgsConstructor();
+        return super.shouldGenerateCodeFor(classInfo)
+                && (classInfo.hasNoArgsConstructor() || classInfo.isRecord() || hasJsonCreatorConstructor(classInfo));
+    }
+
+    private static boolean hasJsonCreatorConstructor(ClassInfo classInfo) {
+        for (MethodInfo ctor : classInfo.constructors()) {
+            if (Modifier.isPublic(ctor.flags()) && ctor.hasAnnotation(JsonCreator.class)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private record DeserializationData(ClassInfo classInfo, MethodInfo constructor, ClassCreator classCreator,
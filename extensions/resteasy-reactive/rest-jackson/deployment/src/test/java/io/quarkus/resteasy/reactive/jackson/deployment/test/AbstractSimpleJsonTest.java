@@ -728,6 +728,22 @@ public void testRecordEcho() {
         assertEquals(first, last);
     }
 
+    @Test
+    public void testNestedRecordEcho() {
+        RestAssured
+                .with()
+                .body("{\"name\":\"USA\",\"capitalState\":{\"code\":\"AL\",\"is_enabled\":true,\"name\":\"Alabama\"}}")
+                .contentType("application/json; charset=utf-8")
+                .post("/simple/nested-record-echo")
+                .then()
+                .statusCode(200)
+                .contentType("application/json")
+                .body("name", Matchers.is("USA"))
+                .body("capitalState.name", Matchers.is("Alabama"))
+                .body("capitalState.code", Matchers.is("AL"))
+                .body("capitalState.is_enabled", Matchers.is(true));
+    }
+
     @Test
     public void testRecordWithEmptyConstructorEcho() {
         RestAssured
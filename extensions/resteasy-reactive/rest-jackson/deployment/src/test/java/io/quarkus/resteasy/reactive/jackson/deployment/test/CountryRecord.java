@@ -0,0 +1,4 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+public record CountryRecord(String name, StateRecord capitalState) {
+}
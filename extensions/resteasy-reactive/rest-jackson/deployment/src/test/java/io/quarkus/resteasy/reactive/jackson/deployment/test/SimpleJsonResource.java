@@ -130,6 +130,13 @@ public StateRecord echoRecord(StateRecord stateRecord) {
         return stateRecord;
     }
 
+    @POST
+    @Path("/nested-record-echo")
+    @Consumes(MediaType.APPLICATION_JSON)
+    public CountryRecord echoNestedRecord(CountryRecord countryRecord) {
+        return countryRecord;
+    }
+
     @POST
     @Path("/empty-ctor-record-echo")
     @Consumes(MediaType.APPLICATION_JSON)
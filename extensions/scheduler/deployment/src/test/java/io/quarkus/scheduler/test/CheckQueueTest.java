@@ -0,0 +1,117 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduler;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * The simple scheduler only evaluates the triggers which may fire; verify that the jobs still fire on time.
+ */
+public class CheckQueueTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Jobs.class));
+
+    @Inject
+    Scheduler scheduler;
+
+    @Test
+    public void testIntervalAndCronJobsFire() throws InterruptedException {
+        assertTrue(Jobs.EVERY_LATCH.await(5, TimeUnit.SECONDS));
+        assertTrue(Jobs.CRON_LATCH.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testPauseResume() throws InterruptedException {
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch firstLatch = new CountDownLatch(1);
+        scheduler.newJob("pauseResume")
+                .setInterval("1s")
+                .setTask(ex -> {
+                    executions.incrementAndGet();
+                    firstLatch.countDown();
+                })
+                .schedule();
+        try {
+            assertTrue(firstLatch.await(5, TimeUnit.SECONDS));
+
+            scheduler.pause("pauseResume");
+            // an execution may have been triggered right before the job was paused
+            TimeUnit.MILLISECONDS.sleep(500);
+            int pausedExecutions = executions.get();
+            TimeUnit.MILLISECONDS.sleep(2500);
+            assertEquals(pausedExecutions, executions.get());
+
+            scheduler.resume("pauseResume");
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (executions.get() == pausedExecutions && System.nanoTime() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(100);
+            }
+            assertTrue(executions.get() > pausedExecutions);
+        } finally {
+            scheduler.unscheduleJob("pauseResume");
+        }
+    }
+
+    @Test
+    public void testUnscheduleWhileQueued() throws InterruptedException {
+        AtomicInteger staleExecutions = new AtomicInteger();
+        CountDownLatch unscheduledLatch = new CountDownLatch(1);
+        // the job unschedules itself while the check which triggered it is still running, so the task may be queued again
+        // by that check after it was removed
+        scheduler.newJob("unscheduled")
+                .setInterval("1s")
+                .setTask(ex -> {
+                    staleExecutions.incrementAndGet();
+                    if (scheduler.unscheduleJob("unscheduled") != null) {
+                        unscheduledLatch.countDown();
+                    }
+                })
+                .schedule();
+        assertTrue(unscheduledLatch.await(5, TimeUnit.SECONDS));
+
+        // a job with the same identity must not be confused with the stale entry
+        CountDownLatch replacementLatch = new CountDownLatch(2);
+        assertNotNull(scheduler.newJob("unscheduled")
+                .setInterval("1s")
+                .setTask(ex -> replacementLatch.countDown())
+                .schedule());
+        try {
+            assertTrue(replacementLatch.await(5, TimeUnit.SECONDS));
+            assertEquals(1, staleExecutions.get());
+        } finally {
+            scheduler.unscheduleJob("unscheduled");
+        }
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch EVERY_LATCH = new CountDownLatch(2);
+        static final CountDownLatch CRON_LATCH = new CountDownLatch(2);
+
+        @Scheduled(every = "1s")
+        void everySecond() {
+            EVERY_LATCH.countDown();
+        }
+
+        @Scheduled(cron = "0/1 * * * * ?")
+        void cronEverySecond() {
+            CRON_LATCH.countDown();
+        }
+    }
+}
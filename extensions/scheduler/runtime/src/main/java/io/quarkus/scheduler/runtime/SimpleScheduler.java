@@ -6,6 +6,8 @@
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -14,6 +16,7 @@
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.PriorityBlockingQueue;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
@@ -74,6 +77,8 @@ public class SimpleScheduler extends BaseScheduler implements Scheduler {
     private final ScheduledExecutorService scheduledExecutor;
     private volatile boolean running;
     private final ConcurrentMap<String, ScheduledTask> scheduledTasks;
+    // The tasks ordered by the time they may fire at, so that only the tasks which may fire are evaluated on each check
+    private final PriorityBlockingQueue<ScheduledTask> checkQueue;
     private final SchedulerConfig schedulerConfig;
 
     public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedulerRuntimeConfig,
@@ -89,6 +94,7 @@ public SimpleScheduler(SchedulerContext context, SchedulerRuntimeConfig schedule
                 jobInstrumenter, blockingExecutor);
         this.running = true;
         this.scheduledTasks = new ConcurrentHashMap<>();
+        this.checkQueue = new PriorityBlockingQueue<>(11, ScheduledTask.NEXT_CHECK_COMPARATOR);
         this.schedulerConfig = schedulerConfig;
 
         if (!schedulerRuntimeConfig.enabled()) {
@@ -157,7 +163,9 @@ public void run() {
                     ScheduledInvoker invoker = initInvoker(context.createInvoker(method.getInvokerClassName()), events,
                             scheduled.concurrentExecution(), initSkipPredicate(scheduled.skipExecutionIf()), instrumenter,
                             vertx, false, SchedulerUtils.parseExecutionMaxDelayAsMillis(scheduled), blockingExecutor);
-                    scheduledTasks.put(trigger.get().id, new ScheduledTask(trigger.get(), invoker, false));
+                    ScheduledTask scheduledTask = new ScheduledTask(trigger.get(), invoker, false);
+                    scheduledTasks.put(trigger.get().id, scheduledTask);
+                    checkQueue.offer(scheduledTask);
                 }
             }
         }
@@ -196,6 +204,7 @@ public Trigger unscheduleJob(String identity) {
             ScheduledTask task = scheduledTasks.get(parsedIdentity);
             if (task != null && task.isProgrammatic) {
                 if (scheduledTasks.remove(task.trigger.id) != null) {
+                    checkQueue.remove(task);
                     return task.trigger;
                 }
             }
@@ -233,10 +242,27 @@ void checkTriggers() {
             return;
         }
         ZonedDateTime now = ZonedDateTime.now();
+        long nowMillis = now.toInstant().toEpochMilli();
         LOG.tracef("Check triggers at %s", now);
-        for (ScheduledTask task : scheduledTasks.values()) {
+        List<ScheduledTask> checked = new ArrayList<>();
+        ScheduledTask task;
+        while ((task = checkQueue.poll()) != null) {
+            if (task.nextCheck > nowMillis) {
+                // None of the remaining tasks may fire yet
+                checkQueue.offer(task);
+                break;
+            }
+            if (scheduledTasks.get(task.trigger.id) != task) {
+                // The job was unscheduled in the meantime
+                continue;
+            }
             task.execute(now, vertx);
+            // A paused trigger is checked again on the next check
+            task.nextCheck = task.trigger.isRunning() ? task.trigger.getEarliestFireTime() : 0;
+            checked.add(task);
         }
+        // The checked tasks are queued again once all the tasks due have been polled
+        checkQueue.addAll(checked);
     }
 
     @Override
@@ -375,9 +401,18 @@ Optional<SimpleTrigger> createTrigger(String id, String methodDescription, Sched
 
     static class ScheduledTask {
 
+        static final Comparator<ScheduledTask> NEXT_CHECK_COMPARATOR = new Comparator<ScheduledTask>() {
+            @Override
+            public int compare(ScheduledTask task1, ScheduledTask task2) {
+                return Long.compare(task1.nextCheck, task2.nextCheck);
+            }
+        };
+
         final boolean isProgrammatic;
         final SimpleTrigger trigger;
         final ScheduledInvoker invoker;
+        // Epoch millis before which the trigger does not need to be evaluated; only updated while the task is not queued
+        long nextCheck;
 
         ScheduledTask(SimpleTrigger trigger, ScheduledInvoker invoker, boolean isProgrammatic) {
             this.trigger = trigger;
@@ -422,6 +457,13 @@ static abstract class SimpleTrigger implements Trigger {
          */
         abstract ZonedDateTime evaluate(ZonedDateTime now);
 
+        /**
+         * The returned value must never be later than the time at which {@link #evaluate(ZonedDateTime)} would fire.
+         *
+         * @return the epoch millis before which this trigger cannot fire
+         */
+        abstract long getEarliestFireTime();
+
         @Override
         public Instant getPreviousFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -483,6 +525,15 @@ ZonedDateTime evaluate(ZonedDateTime now) {
             return null;
         }
 
+        @Override
+        long getEarliestFireTime() {
+            ZonedDateTime last = lastFireTime;
+            if (last == null) {
+                return start.toInstant().toEpochMilli();
+            }
+            return last.toInstant().toEpochMilli() + interval;
+        }
+
         @Override
         public Instant getNextFireTime() {
             ZonedDateTime last = lastFireTime;
@@ -533,6 +584,16 @@ public Instant getNextFireTime() {
             return executionTime.nextExecution(lastFireTime).map(ZonedDateTime::toInstant).orElse(null);
         }
 
+        @Override
+        long getEarliestFireTime() {
+            Optional<ZonedDateTime> nextExecution = executionTime.nextExecution(lastFireTime);
+            if (nextExecution.isEmpty()) {
+                return Long.MAX_VALUE;
+            }
+            return Math.max(start.toInstant().toEpochMilli(),
+                    nextExecution.get().truncatedTo(ChronoUnit.SECONDS).toInstant().toEpochMilli());
+        }
+
         @Override
         ZonedDateTime evaluate(ZonedDateTime now) {
             if (now.isBefore(start)) {
@@ -672,6 +733,7 @@ public boolean isBlocking() {
                 if (existing != null) {
                     throw new IllegalStateException("A job with this identity is already scheduled: " + identity);
                 }
+                checkQueue.offer(scheduledTask);
                 return simpleTrigger;
             }
             return null;
@@ -0,0 +1,405 @@
+package io.quarkus.security.runtime;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+import java.security.Permission;
+import java.security.Principal;
+import java.security.SecureRandom;
+import java.security.cert.CertificateEncodingException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import javax.crypto.Mac;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+
+import io.quarkus.security.credential.CertificateCredential;
+import io.quarkus.security.credential.Credential;
+import io.quarkus.security.credential.PasswordCredential;
+import io.quarkus.security.credential.TokenCredential;
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.SecurityIdentityAugmentor;
+import io.smallrye.mutiny.Uni;
+
+/**
+ * Cache of the {@link SecurityIdentity} instances augmented by the {@link SecurityIdentityAugmentor}s.
+ * <p>
+ * The identities are keyed by the principal name, the roles and a fingerprint of the credentials of the identity created
+ * by the identity provider. The fingerprint is an HMAC computed with a random key generated for every cache instance, so
+ * that the keys can not be used to guess the credentials. Only the identities with token, password or certificate
+ * credentials are cached, because the augmentation result can not be safely attributed to an identity without credentials.
+ * Once the maximum size is reached, the expired identities are removed, at most once per second, and no new identities are
+ * cached until there is room again.
+ * <p>
+ * A cache hit returns the same identity as the augmentors returned when it was cached, rebuilt for the current request: it
+ * has the cached principal, roles and attributes, but the credentials of the current identity, and the attributes the
+ * augmentors took from the identity created by the identity provider or from the authentication request are taken from the
+ * current ones. Only the identities which can be rebuilt this way are cached: the identity created by the identity
+ * provider itself, or a {@link QuarkusSecurityIdentity} whose permission checkers only check the possessed permissions or
+ * delegate to the identity created by the identity provider. Other identities, for example custom {@link SecurityIdentity}
+ * implementations or identities with permission checkers added by the augmentors, may keep a reference to the request they
+ * were created for and are never cached.
+ * <p>
+ * This bean can be injected to invalidate the cached identities, for example, when the roles of a user are updated.
+ */
+public class AugmentedIdentityCache {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final long MAX_SWEEP_INTERVAL_MILLIS = 1000;
+
+    private final Map<String, CacheEntry> cache = new ConcurrentHashMap<>();
+    private final int maxSize;
+    private final long timeToLiveMillis;
+    private final SecretKey fingerprintKey;
+    private final long sweepIntervalMillis;
+    private final AtomicLong nextSweep = new AtomicLong();
+
+    AugmentedIdentityCache(int maxSize, Duration timeToLive) {
+        this.maxSize = maxSize;
+        this.timeToLiveMillis = timeToLive.toMillis();
+        this.sweepIntervalMillis = Math.min(timeToLiveMillis, MAX_SWEEP_INTERVAL_MILLIS);
+        byte[] key = new byte[32];
+        new SecureRandom().nextBytes(key);
+        this.fingerprintKey = new SecretKeySpec(key, HMAC_ALGORITHM);
+    }
+
+    /**
+     * @return true if the identities are cached
+     */
+    public boolean isEnabled() {
+        return maxSize > 0;
+    }
+
+    /**
+     * Removes all the cached identities of the principal with the given name.
+     *
+     * @param principalName the principal name
+     */
+    public void invalidate(String principalName) {
+        cache.values().removeIf(new Predicate<CacheEntry>() {
+            @Override
+            public boolean test(CacheEntry entry) {
+                return entry.principalName.equals(principalName);
+            }
+        });
+    }
+
+    /**
+     * Removes all the cached identities.
+     */
+    public void invalidateAll() {
+        cache.clear();
+    }
+
+    /**
+     * @return the number of cached identities
+     */
+    public int getCacheSize() {
+        return cache.size();
+    }
+
+    /**
+     * @param identity the identity created by the identity provider
+     * @return the cache key or {@code null} if this identity can not be cached
+     */
+    String getKey(SecurityIdentity identity) {
+        if (!isEnabled() || identity.isAnonymous() || identity.getCredentials().isEmpty()) {
+            return null;
+        }
+        Mac digest = newMac();
+        update(digest, identity.getPrincipal().getName());
+        List<String> roles = new ArrayList<>(identity.getRoles());
+        roles.sort(null);
+        for (String role : roles) {
+            update(digest, role);
+        }
+        for (Credential credential : identity.getCredentials()) {
+            if (credential instanceof TokenCredential tokenCredential) {
+                update(digest, tokenCredential.getType());
+                update(digest, tokenCredential.getToken());
+            } else if (credential instanceof PasswordCredential passwordCredential) {
+                ByteBuffer password = StandardCharsets.UTF_8.encode(CharBuffer.wrap(passwordCredential.getPassword()));
+                digest.update(password);
+                digest.update((byte) 0);
+            } else if (credential instanceof CertificateCredential certificateCredential) {
+                try {
+                    digest.update(certificateCredential.getCertificate().getEncoded());
+                    digest.update((byte) 0);
+                } catch (CertificateEncodingException e) {
+                    return null;
+                }
+            } else {
+                return null;
+            }
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest.doFinal());
+    }
+
+    /**
+     * @param key the cache key
+     * @param identity the identity created by the identity provider for the current request
+     * @param requestAttributes the attributes of the current authentication request
+     * @return the identity the augmentors returned when the entry was cached, rebuilt for the current request, or
+     *         {@code null} if there's none
+     */
+    SecurityIdentity get(String key, SecurityIdentity identity, Map<String, Object> requestAttributes) {
+        CacheEntry entry = cache.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt < System.currentTimeMillis()) {
+            cache.remove(key, entry);
+            return null;
+        }
+        if (entry.unchanged) {
+            return identity;
+        }
+        QuarkusSecurityIdentity.Builder builder = QuarkusSecurityIdentity.builder()
+                .setPrincipal(entry.principal != null ? entry.principal : identity.getPrincipal())
+                .addRoles(entry.roles)
+                .addCredentials(identity.getCredentials());
+        for (CachedAttribute attribute : entry.attributes) {
+            Object value = attribute.value(identity, requestAttributes);
+            if (value != null) {
+                builder.addAttribute(attribute.name, value);
+            }
+        }
+        for (CachedPermissionChecker checker : entry.permissionCheckers) {
+            builder.addPermissionChecker(checker.bind(identity));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Caches the identity returned by the augmentors if it can be rebuilt for another request without keeping a reference
+     * to this one. That is the case if it is the identity created by the identity provider, or a
+     * {@link QuarkusSecurityIdentity} with the credentials of that identity and the permission checkers known to only
+     * depend on the possessed permissions or on the permission checks of the identity created by the identity provider.
+     *
+     * @param key the cache key
+     * @param identity the identity created by the identity provider
+     * @param augmented the identity returned by the augmentors
+     * @param requestAttributes the attributes of the authentication request
+     */
+    void put(String key, SecurityIdentity identity, SecurityIdentity augmented, Map<String, Object> requestAttributes) {
+        if (cache.size() >= maxSize) {
+            // the expired entries are only looked for once per sweep interval, not on every cache miss
+            long now = System.currentTimeMillis();
+            long nextSweep = this.nextSweep.get();
+            if (now < nextSweep || !this.nextSweep.compareAndSet(nextSweep, now + sweepIntervalMillis)) {
+                return;
+            }
+            removeExpiredEntries(now);
+            if (cache.size() >= maxSize) {
+                return;
+            }
+        }
+        long expiresAt = System.currentTimeMillis() + timeToLiveMillis;
+        if (augmented == identity) {
+            cache.put(key, new CacheEntry(identity.getPrincipal().getName(), true, null, null, null, null, expiresAt));
+            return;
+        }
+        if (augmented.getClass() != QuarkusSecurityIdentity.class || augmented.isAnonymous()
+                || !augmented.getCredentials().equals(identity.getCredentials())) {
+            return;
+        }
+        List<CachedPermissionChecker> permissionCheckers = getCachedPermissionCheckers((QuarkusSecurityIdentity) augmented,
+                identity);
+        if (permissionCheckers == null) {
+            return;
+        }
+        List<CachedAttribute> attributes = getCachedAttributes(augmented, identity, requestAttributes);
+        if (attributes == null) {
+            return;
+        }
+        Principal principal = augmented.getPrincipal() == identity.getPrincipal() ? null : augmented.getPrincipal();
+        cache.put(key, new CacheEntry(identity.getPrincipal().getName(), false, principal, Set.copyOf(augmented.getRoles()),
+                attributes, permissionCheckers, expiresAt));
+    }
+
+    /**
+     * @return the attributes of the augmented identity, or {@code null} if one of them is an object of the current request
+     *         the cache can not attribute to a name
+     */
+    private static List<CachedAttribute> getCachedAttributes(SecurityIdentity augmented, SecurityIdentity identity,
+            Map<String, Object> requestAttributes) {
+        List<CachedAttribute> attributes = new ArrayList<>();
+        for (Map.Entry<String, Object> attribute : augmented.getAttributes().entrySet()) {
+            String name = attribute.getKey();
+            Object value = attribute.getValue();
+            if (value == identity.getAttributes().get(name)) {
+                attributes.add(new CachedAttribute(name, null, AttributeSource.IDENTITY));
+            } else if (requestAttributes != null && value == requestAttributes.get(name)) {
+                attributes.add(new CachedAttribute(name, null, AttributeSource.REQUEST));
+            } else if (containsInstance(identity.getAttributes(), value)
+                    || (requestAttributes != null && containsInstance(requestAttributes, value))) {
+                return null;
+            } else {
+                attributes.add(new CachedAttribute(name, value, AttributeSource.CACHE));
+            }
+        }
+        return attributes;
+    }
+
+    private static boolean containsInstance(Map<String, Object> attributes, Object value) {
+        for (Object attribute : attributes.values()) {
+            if (attribute == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the permission checkers of the augmented identity, or {@code null} if one of them is not known to be safe to
+     *         share between requests
+     */
+    private static List<CachedPermissionChecker> getCachedPermissionCheckers(QuarkusSecurityIdentity augmented,
+            SecurityIdentity identity) {
+        List<CachedPermissionChecker> permissionCheckers = new ArrayList<>();
+        for (Function<Permission, Uni<Boolean>> checker : augmented.getPermissionCheckers()) {
+            if (checker instanceof QuarkusSecurityIdentity.PossessedPermissionsChecker) {
+                permissionCheckers.add(new SharedPermissionChecker(checker));
+            } else if (checker instanceof QuarkusSecurityIdentity.PreviousIdentityPermissionChecker previous) {
+                if (previous.identity == identity) {
+                    permissionCheckers.add(ProviderIdentityPermissionChecker.INSTANCE);
+                } else if (previous.identity.getClass() == QuarkusSecurityIdentity.class) {
+                    List<CachedPermissionChecker> nested = getCachedPermissionCheckers(
+                            (QuarkusSecurityIdentity) previous.identity, identity);
+                    if (nested == null) {
+                        return null;
+                    }
+                    permissionCheckers.add(new IntermediateIdentityPermissionChecker(nested));
+                } else {
+                    return null;
+                }
+            } else {
+                return null;
+            }
+        }
+        return permissionCheckers;
+    }
+
+    private void removeExpiredEntries(long now) {
+        for (Iterator<CacheEntry> it = cache.values().iterator(); it.hasNext();) {
+            if (it.next().expiresAt < now) {
+                it.remove();
+            }
+        }
+    }
+
+    private static void update(Mac digest, String value) {
+        if (value != null) {
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+        // separate the values so that the adjacent values can not be shifted into each other
+        digest.update((byte) 0);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(fingerprintKey);
+            return mac;
+        } catch (NoSuchAlgorithmException | InvalidKeyException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param unchanged whether the augmentors returned the identity created by the identity provider
+     * @param principal the principal set by the augmentors, or {@code null} if they kept the original one
+     */
+    private record CacheEntry(String principalName, boolean unchanged, Principal principal, Set<String> roles,
+            List<CachedAttribute> attributes, List<CachedPermissionChecker> permissionCheckers, long expiresAt) {
+    }
+
+    private enum AttributeSource {
+        /**
+         * The cached value
+         */
+        CACHE,
+        /**
+         * The attribute of the same name of the identity created by the identity provider for the current request
+         */
+        IDENTITY,
+        /**
+         * The attribute of the same name of the current authentication request
+         */
+        REQUEST
+    }
+
+    private record CachedAttribute(String name, Object value, AttributeSource source) {
+
+        Object value(SecurityIdentity identity, Map<String, Object> requestAttributes) {
+            return switch (source) {
+                case CACHE -> value;
+                case IDENTITY -> identity.getAttributes().get(name);
+                case REQUEST -> requestAttributes == null ? null : requestAttributes.get(name);
+            };
+        }
+    }
+
+    /**
+     * A permission checker of the cached identity, bound to the identity created by the identity provider for the current
+     * request when the identity is rebuilt.
+     */
+    private interface CachedPermissionChecker {
+
+        Function<Permission, Uni<Boolean>> bind(SecurityIdentity identity);
+    }
+
+    /**
+     * A permission checker which does not hold any reference to a request.
+     */
+    private record SharedPermissionChecker(Function<Permission, Uni<Boolean>> checker) implements CachedPermissionChecker {
+
+        @Override
+        public Function<Permission, Uni<Boolean>> bind(SecurityIdentity identity) {
+            return checker;
+        }
+    }
+
+    /**
+     * Delegates to the permission checks of the identity created by the identity provider.
+     */
+    private static final class ProviderIdentityPermissionChecker implements CachedPermissionChecker {
+
+        static final ProviderIdentityPermissionChecker INSTANCE = new ProviderIdentityPermissionChecker();
+
+        @Override
+        public Function<Permission, Uni<Boolean>> bind(SecurityIdentity identity) {
+            return new QuarkusSecurityIdentity.PreviousIdentityPermissionChecker(identity);
+        }
+    }
+
+    /**
+     * Delegates to the permission checks of an identity returned by an augmentor which is not the last one.
+     */
+    private record IntermediateIdentityPermissionChecker(
+            List<CachedPermissionChecker> checkers) implements CachedPermissionChecker {
+
+        @Override
+        public Function<Permission, Uni<Boolean>> bind(SecurityIdentity identity) {
+            // only the permission checkers of the intermediate identity are used, so that its results are combined
+            // exactly like they were when the identity was cached
+            QuarkusSecurityIdentity.Builder builder = QuarkusSecurityIdentity.builder().setAnonymous(true);
+            for (CachedPermissionChecker checker : checkers) {
+                builder.addPermissionChecker(checker.bind(identity));
+            }
+            return new QuarkusSecurityIdentity.PreviousIdentityPermissionChecker(builder.build());
+        }
+    }
+}
@@ -6,6 +6,7 @@
 import jakarta.enterprise.context.ApplicationScoped;
 import jakarta.enterprise.inject.Instance;
 import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Singleton;
 
 import io.quarkus.arc.DefaultBean;
 import io.quarkus.runtime.ExecutorRecorder;
@@ -32,10 +33,18 @@ public Executor get() {
         });
     }
 
+    @Produces
+    @Singleton
+    AugmentedIdentityCache augmentedIdentityCache(SecurityConfig securityConfig) {
+        return new AugmentedIdentityCache(securityConfig.augmentationCache().maxSize(),
+                securityConfig.augmentationCache().timeToLive());
+    }
+
     @Produces
     @ApplicationScoped
     public IdentityProviderManager ipm(Instance<IdentityProvider<?>> identityProviders,
-            Instance<SecurityIdentityAugmentor> augmentors, BlockingSecurityExecutor blockingExecutor) {
+            Instance<SecurityIdentityAugmentor> augmentors, BlockingSecurityExecutor blockingExecutor,
+            AugmentedIdentityCache augmentationCache) {
         boolean customAnon = false;
         QuarkusIdentityProviderManagerImpl.Builder builder = QuarkusIdentityProviderManagerImpl.builder();
         for (var i : identityProviders) {
@@ -51,6 +60,7 @@ public IdentityProviderManager ipm(Instance<IdentityProvider<?>> identityProvide
             builder.addSecurityIdentityAugmentor(i);
         }
         builder.setBlockingExecutor(blockingExecutor);
+        builder.setAugmentationCache(augmentationCache);
         return builder.build();
     }
 
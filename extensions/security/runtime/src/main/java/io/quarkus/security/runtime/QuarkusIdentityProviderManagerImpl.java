@@ -33,10 +33,19 @@ public class QuarkusIdentityProviderManagerImpl implements IdentityProviderManag
     private final Map<Class<? extends AuthenticationRequest>, List<IdentityProvider<? extends AuthenticationRequest>>> providers;
     private final SecurityIdentityAugmentor[] augmenters;
     private final AuthenticationRequestContext blockingRequestContext;
+    private final AugmentedIdentityCache augmentationCache;
+    /**
+     * Number of augmentors whose result can be cached, the permission augmentor must always run with the final identity
+     */
+    private final int cacheableAugmenters;
 
     QuarkusIdentityProviderManagerImpl(Builder builder) {
         this.providers = builder.providers;
         this.augmenters = builder.augmentors.toArray(SecurityIdentityAugmentor[]::new);
+        this.augmentationCache = builder.augmentationCache != null && builder.augmentationCache.isEnabled()
+                ? builder.augmentationCache
+                : null;
+        this.cacheableAugmenters = builder.quarkusPermissionAugmentor != null ? augmenters.length - 1 : augmenters.length;
         this.blockingRequestContext = new AuthenticationRequestContext() {
             @Override
             public Uni<SecurityIdentity> runBlocking(Supplier<SecurityIdentity> function) {
@@ -85,7 +94,7 @@ public Throwable get() {
                     .flatMap(new Function<SecurityIdentity, Uni<? extends SecurityIdentity>>() {
                         @Override
                         public Uni<? extends SecurityIdentity> apply(SecurityIdentity securityIdentity) {
-                            return handleIdentityFromProvider(0, securityIdentity, request.getAttributes());
+                            return augmentIdentity(securityIdentity, request.getAttributes());
                         }
                     });
         }
@@ -117,7 +126,7 @@ private Uni<SecurityIdentity> handleProviders(
                 .transformToUni(new Function<SecurityIdentity, Uni<? extends SecurityIdentity>>() {
                     @Override
                     public Uni<? extends SecurityIdentity> apply(SecurityIdentity securityIdentity) {
-                        return handleIdentityFromProvider(0, securityIdentity, request.getAttributes());
+                        return augmentIdentity(securityIdentity, request.getAttributes());
                     }
                 });
     }
@@ -142,9 +151,32 @@ public Uni<SecurityIdentity> apply(SecurityIdentity securityIdentity) {
                 });
     }
 
-    private Uni<SecurityIdentity> handleIdentityFromProvider(int pos, SecurityIdentity identity,
+    private Uni<SecurityIdentity> augmentIdentity(SecurityIdentity identity, Map<String, Object> attributes) {
+        if (augmentationCache == null || cacheableAugmenters == 0) {
+            return handleIdentityFromProvider(0, augmenters.length, identity, attributes);
+        }
+        final String cacheKey = augmentationCache.getKey(identity);
+        if (cacheKey == null) {
+            return handleIdentityFromProvider(0, augmenters.length, identity, attributes);
+        }
+        // the cached identity is rebuilt with the credentials and the attributes of the current request
+        SecurityIdentity cachedIdentity = augmentationCache.get(cacheKey, identity, attributes);
+        if (cachedIdentity != null) {
+            return handleIdentityFromProvider(cacheableAugmenters, augmenters.length, cachedIdentity, attributes);
+        }
+        return handleIdentityFromProvider(0, cacheableAugmenters, identity, attributes)
+                .flatMap(new Function<SecurityIdentity, Uni<? extends SecurityIdentity>>() {
+                    @Override
+                    public Uni<SecurityIdentity> apply(SecurityIdentity augmented) {
+                        augmentationCache.put(cacheKey, identity, augmented, attributes);
+                        return handleIdentityFromProvider(cacheableAugmenters, augmenters.length, augmented, attributes);
+                    }
+                });
+    }
+
+    private Uni<SecurityIdentity> handleIdentityFromProvider(int pos, int end, SecurityIdentity identity,
             Map<String, Object> attributes) {
-        if (pos == augmenters.length) {
+        if (pos == end) {
             return Uni.createFrom().item(identity);
         }
         SecurityIdentityAugmentor a = augmenters[pos];
@@ -152,7 +184,7 @@ private Uni<SecurityIdentity> handleIdentityFromProvider(int pos, SecurityIdenti
                 .flatMap(new Function<SecurityIdentity, Uni<? extends SecurityIdentity>>() {
                     @Override
                     public Uni<SecurityIdentity> apply(SecurityIdentity securityIdentity) {
-                        return handleIdentityFromProvider(pos + 1, securityIdentity, attributes);
+                        return handleIdentityFromProvider(pos + 1, end, securityIdentity, attributes);
                     }
                 });
     }
@@ -184,6 +216,7 @@ public static class Builder {
         private final List<SecurityIdentityAugmentor> augmentors = new ArrayList<>();
         private QuarkusPermissionSecurityIdentityAugmentor quarkusPermissionAugmentor = null;
         private BlockingSecurityExecutor blockingExecutor;
+        private AugmentedIdentityCache augmentationCache;
         private boolean built = false;
 
         /**
@@ -233,6 +266,15 @@ public Builder setBlockingExecutor(Executor blockingExecutor) {
             return this;
         }
 
+        /**
+         * @param augmentationCache The cache of the augmented identities
+         * @return this builder
+         */
+        public Builder setAugmentationCache(AugmentedIdentityCache augmentationCache) {
+            this.augmentationCache = augmentationCache;
+            return this;
+        }
+
         /**
          * @return a new {@link QuarkusIdentityProviderManagerImpl}
          */
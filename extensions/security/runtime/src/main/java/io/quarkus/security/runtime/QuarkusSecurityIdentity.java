@@ -120,6 +120,10 @@ public Boolean apply(List<?> o) {
 
     }
 
+    List<Function<Permission, Uni<Boolean>>> getPermissionCheckers() {
+        return permissionCheckers;
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -129,18 +133,51 @@ public static Builder builder(SecurityIdentity identity) {
                 .addAttributes(identity.getAttributes())
                 .addCredentials(identity.getCredentials())
                 .addRoles(identity.getRoles())
-                .addPermissionChecker(new Function<Permission, Uni<Boolean>>() {
-                    @Override
-                    public Uni<Boolean> apply(Permission permission) {
-                        // sustain previous permission checks
-                        return identity.checkPermission(permission);
-                    }
-                })
+                .addPermissionChecker(new PreviousIdentityPermissionChecker(identity))
                 .setPrincipal(identity.getPrincipal())
                 .setAnonymous(identity.isAnonymous());
         return builder;
     }
 
+    /**
+     * Sustains the permission checks of the identity a new identity is built from.
+     */
+    static final class PreviousIdentityPermissionChecker implements Function<Permission, Uni<Boolean>> {
+
+        final SecurityIdentity identity;
+
+        PreviousIdentityPermissionChecker(SecurityIdentity identity) {
+            this.identity = identity;
+        }
+
+        @Override
+        public Uni<Boolean> apply(Permission permission) {
+            return identity.checkPermission(permission);
+        }
+    }
+
+    /**
+     * Checks the permissions added with {@link Builder#addPermissions(Set)}. It only holds the possessed permissions.
+     */
+    static final class PossessedPermissionsChecker implements Function<Permission, Uni<Boolean>> {
+
+        private final Set<Permission> permissions;
+
+        PossessedPermissionsChecker(Set<Permission> permissions) {
+            this.permissions = permissions;
+        }
+
+        @Override
+        public Uni<Boolean> apply(Permission requiredPermission) {
+            for (Permission possessedPermission : permissions) {
+                if (possessedPermission.implies(requiredPermission)) {
+                    return Uni.createFrom().item(true);
+                }
+            }
+            return Uni.createFrom().item(false);
+        }
+    }
+
     public static class Builder {
 
         Principal principal;
@@ -311,21 +348,7 @@ public QuarkusSecurityIdentity build() {
 
         private void addPossesedPermissionsChecker() {
             if (!permissions.isEmpty()) {
-                addPermissionChecker(
-                        new Function<Permission, Uni<Boolean>>() {
-
-                            @Override
-                            public Uni<Boolean> apply(Permission requiredPermission) {
-
-                                for (Permission possessedPermission : permissions) {
-                                    if (possessedPermission.implies(requiredPermission)) {
-                                        return Uni.createFrom().item(true);
-                                    }
-                                }
-                                return Uni.createFrom().item(false);
-
-                            }
-                        });
+                addPermissionChecker(new PossessedPermissionsChecker(permissions));
             }
 
         }
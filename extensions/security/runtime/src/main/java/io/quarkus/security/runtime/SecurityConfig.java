@@ -1,5 +1,7 @@
 package io.quarkus.security.runtime;
 
+import java.time.Duration;
+
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
@@ -17,6 +19,11 @@ public interface SecurityConfig {
      */
     SecurityEventsConfig events();
 
+    /**
+     * Cache of the identities augmented by the {@link io.quarkus.security.identity.SecurityIdentityAugmentor}s.
+     */
+    AugmentationCacheConfig augmentationCache();
+
     interface SecurityEventsConfig {
 
         /**
@@ -27,4 +34,27 @@ interface SecurityEventsConfig {
 
     }
 
+    interface AugmentationCacheConfig {
+
+        /**
+         * Maximum number of augmented identities to cache.
+         * <p>
+         * When the same credentials are presented again, for example the same bearer token, the identity augmentors are not
+         * invoked and the cached augmentation result is used instead. This is useful when the augmentors are expensive,
+         * for example when they load the roles from a database. Inject {@link AugmentedIdentityCache} to invalidate the
+         * cached identities when the roles or permissions of a user change.
+         * Do not enable the cache if the augmentation depends on the current request, for example on its path.
+         * The cache is disabled by default.
+         */
+        @WithDefault("0")
+        int maxSize();
+
+        /**
+         * Maximum amount of time an augmented identity is cached for.
+         */
+        @WithDefault("5M")
+        Duration timeToLive();
+
+    }
+
 }
@@ -1,17 +1,26 @@
 package io.quarkus.security.runtime;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.time.Duration;
+import java.util.Set;
 import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 
 import io.quarkus.security.AuthenticationFailedException;
+import io.quarkus.security.StringPermission;
+import io.quarkus.security.credential.TokenCredential;
 import io.quarkus.security.identity.AuthenticationRequestContext;
 import io.quarkus.security.identity.IdentityProvider;
 import io.quarkus.security.identity.IdentityProviderManager;
@@ -53,6 +62,122 @@ void testIdentityProviderAugmentOnlyOnce() {
         verify(augmentor, times(1)).augment(any(), any());
     }
 
+    @Test
+    void testAugmentationCache() {
+        TestSecurityAugmentor augmentor = spy(new TestSecurityAugmentor());
+        AugmentedIdentityCache cache = new AugmentedIdentityCache(10, Duration.ofMinutes(5));
+        TestIdentityProviderWithToken provider = new TestIdentityProviderWithToken();
+        IdentityProviderManager identityProviderManager = QuarkusIdentityProviderManagerImpl.builder()
+                .addProvider(provider)
+                .addProvider(new AnonymousIdentityProvider())
+                .addSecurityIdentityAugmentor(augmentor)
+                .setAugmentationCache(cache)
+                .setBlockingExecutor(Executors.newSingleThreadExecutor()).build();
+        for (int i = 0; i < 3; i++) {
+            SecurityIdentity identity = identityProviderManager.authenticateBlocking(new TestAuthenticationRequest());
+            assertEquals(new QuarkusPrincipal("Bob"), identity.getPrincipal());
+            assertTrue(identity.getRoles().contains("role"));
+            assertTrue((Boolean) identity.getAttribute("augmented"));
+            assertTrue(identity.checkPermission(new StringPermission("read")).await().indefinitely());
+            assertFalse(identity.checkPermission(new StringPermission("write")).await().indefinitely());
+            // the roles and the permissions of the provider identity are kept by the augmentor
+            assertTrue(identity.hasRole("provider"));
+            assertTrue(identity.checkPermission(new StringPermission("provider")).await().indefinitely());
+            // the attributes and credentials created for the current request are never taken from the cache
+            assertEquals(i, (Integer) identity.getAttribute("request"));
+            assertSame(provider.lastCredential, identity.getCredential(TokenCredential.class));
+        }
+        verify(augmentor, times(1)).augment(any(), any());
+        assertEquals(1, cache.getCacheSize());
+
+        cache.invalidate("Bob");
+        assertEquals(0, cache.getCacheSize());
+        identityProviderManager.authenticateBlocking(new TestAuthenticationRequest());
+        verify(augmentor, times(2)).augment(any(), any());
+    }
+
+    @Test
+    void testAugmentationCacheWithRemovedRole() {
+        AtomicInteger augmentations = new AtomicInteger();
+        SecurityIdentityAugmentor augmentor = new SecurityIdentityAugmentor() {
+            @Override
+            public Uni<SecurityIdentity> augment(SecurityIdentity identity, AuthenticationRequestContext context) {
+                augmentations.incrementAndGet();
+                // replaces the roles and drops the permissions of the provider identity
+                return Uni.createFrom().item(QuarkusSecurityIdentity.builder()
+                        .setPrincipal(identity.getPrincipal())
+                        .addCredentials(identity.getCredentials())
+                        .addAttributes(identity.getAttributes())
+                        .addRole("user")
+                        .build());
+            }
+        };
+        AugmentedIdentityCache cache = new AugmentedIdentityCache(10, Duration.ofMinutes(5));
+        TestIdentityProviderWithToken provider = new TestIdentityProviderWithToken();
+        IdentityProviderManager identityProviderManager = QuarkusIdentityProviderManagerImpl.builder()
+                .addProvider(provider)
+                .addProvider(new AnonymousIdentityProvider())
+                .addSecurityIdentityAugmentor(augmentor)
+                .setAugmentationCache(cache)
+                .setBlockingExecutor(Executors.newSingleThreadExecutor()).build();
+        for (int i = 0; i < 3; i++) {
+            SecurityIdentity identity = identityProviderManager.authenticateBlocking(new TestAuthenticationRequest());
+            // a cache hit returns the same identity as the augmentor
+            assertEquals(Set.of("user"), identity.getRoles());
+            assertFalse(identity.checkPermission(new StringPermission("provider")).await().indefinitely());
+            assertEquals(i, (Integer) identity.getAttribute("request"));
+            assertSame(provider.lastCredential, identity.getCredential(TokenCredential.class));
+        }
+        assertEquals(1, augmentations.get());
+        assertEquals(1, cache.getCacheSize());
+    }
+
+    @Test
+    void testAugmentationCacheWithUnknownPermissionChecker() {
+        AtomicInteger augmentations = new AtomicInteger();
+        SecurityIdentityAugmentor augmentor = new SecurityIdentityAugmentor() {
+            @Override
+            public Uni<SecurityIdentity> augment(SecurityIdentity identity, AuthenticationRequestContext context) {
+                augmentations.incrementAndGet();
+                // this checker may capture the identity of the current request
+                return Uni.createFrom().item(QuarkusSecurityIdentity.builder(identity)
+                        .addPermissionChecker(permission -> Uni.createFrom().item(identity.hasRole("provider")))
+                        .build());
+            }
+        };
+        AugmentedIdentityCache cache = new AugmentedIdentityCache(10, Duration.ofMinutes(5));
+        IdentityProviderManager identityProviderManager = QuarkusIdentityProviderManagerImpl.builder()
+                .addProvider(new TestIdentityProviderWithToken())
+                .addProvider(new AnonymousIdentityProvider())
+                .addSecurityIdentityAugmentor(augmentor)
+                .setAugmentationCache(cache)
+                .setBlockingExecutor(Executors.newSingleThreadExecutor()).build();
+        for (int i = 0; i < 3; i++) {
+            SecurityIdentity identity = identityProviderManager.authenticateBlocking(new TestAuthenticationRequest());
+            assertTrue(identity.checkPermission(new StringPermission("any")).await().indefinitely());
+        }
+        assertEquals(3, augmentations.get());
+        assertEquals(0, cache.getCacheSize());
+    }
+
+    @Test
+    void testAugmentationCacheKey() {
+        AugmentedIdentityCache cache = new AugmentedIdentityCache(10, Duration.ofMinutes(5));
+        SecurityIdentity identity = QuarkusSecurityIdentity.builder()
+                .setPrincipal(new QuarkusPrincipal("Bob"))
+                .addCredential(new TokenCredential("token", "bearer"))
+                .build();
+        SecurityIdentity otherToken = QuarkusSecurityIdentity.builder()
+                .setPrincipal(new QuarkusPrincipal("Bob"))
+                .addCredential(new TokenCredential("other", "bearer"))
+                .build();
+        assertEquals(cache.getKey(identity), cache.getKey(identity));
+        assertNotEquals(cache.getKey(identity), cache.getKey(otherToken));
+        // the keys are computed with a key specific to the cache instance
+        assertNotEquals(cache.getKey(identity), new AugmentedIdentityCache(10, Duration.ofMinutes(5)).getKey(identity));
+        assertNull(cache.getKey(QuarkusSecurityIdentity.builder().setPrincipal(new QuarkusPrincipal("Bob")).build()));
+    }
+
     static class TestAuthenticationRequest extends BaseAuthenticationRequest {
     }
 
@@ -114,11 +239,33 @@ public int priority() {
         }
     }
 
+    static class TestIdentityProviderWithToken extends TestIdentityProvider {
+        private final AtomicInteger requests = new AtomicInteger();
+        private volatile TokenCredential lastCredential;
+
+        @Override
+        public Uni<SecurityIdentity> authenticate(TestAuthenticationRequest request, AuthenticationRequestContext context) {
+            lastCredential = new TokenCredential("token", "bearer");
+            SecurityIdentity identity = QuarkusSecurityIdentity.builder()
+                    .setPrincipal(new QuarkusPrincipal("Bob"))
+                    .addCredential(lastCredential)
+                    .addAttribute("request", requests.getAndIncrement())
+                    .addRole("provider")
+                    .addPermissionAsString("provider")
+                    .build();
+            return Uni.createFrom().item(identity);
+        }
+    }
+
     private static class TestSecurityAugmentor implements SecurityIdentityAugmentor {
         @Override
         public Uni<SecurityIdentity> augment(SecurityIdentity securityIdentity,
                 AuthenticationRequestContext authenticationRequestContext) {
-            return Uni.createFrom().item(QuarkusSecurityIdentity.builder(securityIdentity).addRole("role").build());
+            return Uni.createFrom().item(QuarkusSecurityIdentity.builder(securityIdentity)
+                    .addRole("role")
+                    .addAttribute("augmented", true)
+                    .addPermissionAsString("read")
+                    .build());
         }
     }
 }
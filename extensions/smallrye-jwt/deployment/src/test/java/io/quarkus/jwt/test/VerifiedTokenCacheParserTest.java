@@ -0,0 +1,158 @@
+package io.quarkus.jwt.test;
+
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.microprofile.jwt.JsonWebToken;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.security.identity.request.TokenAuthenticationRequest;
+import io.quarkus.security.runtime.AnonymousIdentityProvider;
+import io.quarkus.security.runtime.QuarkusIdentityProviderManagerImpl;
+import io.quarkus.smallrye.jwt.runtime.auth.JsonWebTokenCredential;
+import io.quarkus.smallrye.jwt.runtime.auth.MpJwtValidator;
+import io.quarkus.smallrye.jwt.runtime.auth.SmallRyeJwtConfig;
+import io.smallrye.jwt.auth.principal.DefaultJWTParser;
+import io.smallrye.jwt.auth.principal.JWTAuthContextInfo;
+import io.smallrye.jwt.auth.principal.ParseException;
+
+/**
+ * Validate that the verified token cache skips the token verification
+ */
+public class VerifiedTokenCacheParserTest {
+
+    private PrivateKey privateKey;
+    private CountingParser parser;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        KeyPair keyPair = TokenUtils.generateKeyPair(2048);
+        privateKey = keyPair.getPrivate();
+        parser = new CountingParser(
+                new JWTAuthContextInfo((RSAPublicKey) keyPair.getPublic(), "https://server.example.com"));
+    }
+
+    @Test
+    public void cachedTokenIsNotParsedAgain() throws Exception {
+        QuarkusIdentityProviderManagerImpl authenticator = authenticator(Duration.ofMinutes(5));
+
+        String jwt = TokenUtils.generateTokenString("/Token1.json", privateKey, "testTokenRealm");
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals("jdoe@example.com", authenticate(authenticator, jwt).getPrincipal().getName());
+        }
+        Assertions.assertEquals(1, parser.invocations.get());
+
+        String otherJwt = TokenUtils.generateTokenString("/Token2.json", privateKey, "testTokenRealm");
+        authenticate(authenticator, otherJwt);
+        authenticate(authenticator, otherJwt);
+        Assertions.assertEquals(2, parser.invocations.get());
+    }
+
+    @Test
+    public void tokenIsParsedAgainAfterTimeToLive() throws Exception {
+        QuarkusIdentityProviderManagerImpl authenticator = authenticator(Duration.ofMillis(500));
+
+        String jwt = TokenUtils.generateTokenString("/Token1.json", privateKey, "testTokenRealm");
+        authenticate(authenticator, jwt);
+        authenticate(authenticator, jwt);
+        Assertions.assertEquals(1, parser.invocations.get());
+
+        Thread.sleep(1000);
+        authenticate(authenticator, jwt);
+        Assertions.assertEquals(2, parser.invocations.get());
+    }
+
+    @Test
+    public void tokenIsNotServedFromCacheAfterExpiration() throws Exception {
+        QuarkusIdentityProviderManagerImpl authenticator = authenticator(Duration.ofMinutes(5));
+
+        Map<String, Long> timeClaims = new HashMap<>();
+        timeClaims.put("exp", (long) TokenUtils.currentTimeInSecs() + 2);
+        String jwt = TokenUtils.generateTokenString(privateKey, "testTokenRealm", "/Token1.json", null, timeClaims);
+        authenticate(authenticator, jwt);
+        authenticate(authenticator, jwt);
+        Assertions.assertEquals(1, parser.invocations.get());
+
+        // the cache time to live is much longer, the entry must expire together with the token
+        Thread.sleep(3000);
+        try {
+            authenticate(authenticator, jwt);
+        } catch (RuntimeException expected) {
+            // depending on the allowed clock skew, the expired token may still be accepted by the parser
+        }
+        Assertions.assertEquals(2, parser.invocations.get());
+    }
+
+    private QuarkusIdentityProviderManagerImpl authenticator(Duration timeToLive) {
+        MpJwtValidator jwtValidator = new MpJwtValidator(parser, config(10, timeToLive));
+        return QuarkusIdentityProviderManagerImpl.builder()
+                .addProvider(new AnonymousIdentityProvider())
+                .setBlockingExecutor(new Executor() {
+                    @Override
+                    public void execute(Runnable command) {
+                        command.run();
+                    }
+                })
+                .addProvider(jwtValidator).build();
+    }
+
+    private static SecurityIdentity authenticate(QuarkusIdentityProviderManagerImpl authenticator, String jwt) {
+        TokenAuthenticationRequest tokenEvidence = new TokenAuthenticationRequest(new JsonWebTokenCredential(jwt));
+        SecurityIdentity securityIdentity = authenticator.authenticate(tokenEvidence).await().indefinitely();
+        Assertions.assertNotNull(securityIdentity);
+        return securityIdentity;
+    }
+
+    private static SmallRyeJwtConfig config(int maxSize, Duration timeToLive) {
+        return new SmallRyeJwtConfig() {
+            @Override
+            public boolean blockingAuthentication() {
+                return false;
+            }
+
+            @Override
+            public boolean silent() {
+                return false;
+            }
+
+            @Override
+            public VerifiedTokenCache verifiedTokenCache() {
+                return new VerifiedTokenCache() {
+                    @Override
+                    public int maxSize() {
+                        return maxSize;
+                    }
+
+                    @Override
+                    public Duration timeToLive() {
+                        return timeToLive;
+                    }
+                };
+            }
+        };
+    }
+
+    static class CountingParser extends DefaultJWTParser {
+
+        final AtomicInteger invocations = new AtomicInteger();
+
+        CountingParser(JWTAuthContextInfo authContextInfo) {
+            super(authContextInfo);
+        }
+
+        @Override
+        public JsonWebToken parse(String token) throws ParseException {
+            invocations.incrementAndGet();
+            return super.parse(token);
+        }
+    }
+}
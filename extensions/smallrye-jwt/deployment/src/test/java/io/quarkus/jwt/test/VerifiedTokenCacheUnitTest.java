@@ -0,0 +1,40 @@
+package io.quarkus.jwt.test;
+
+import static org.hamcrest.Matchers.equalTo;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class VerifiedTokenCacheUnitTest {
+    private static Class<?>[] testClasses = {
+            DefaultGroupsEndpoint.class,
+            CustomSecurityIdentityAugmentor.class,
+            TokenUtils.class
+    };
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(testClasses)
+                    .addAsResource("publicKey.pem")
+                    .addAsResource("privateKey.pem")
+                    .addAsResource("TokenNoGroups.json")
+                    .addAsResource("applicationDefaultGroups.properties", "application.properties"))
+            .overrideConfigKey("quarkus.smallrye-jwt.verified-token-cache.max-size", "10");
+
+    @Test
+    public void sameTokenIsAcceptedRepeatedly() throws Exception {
+        String token = TokenUtils.generateTokenString("/TokenNoGroups.json");
+        for (int i = 0; i < 3; i++) {
+            // the security identity is created for every request, even if the token is already verified
+            RestAssured.given().auth()
+                    .oauth2(token)
+                    .get("/endp/routingContext")
+                    .then().assertThat().statusCode(200)
+                    .body(equalTo("User; routing-context-available:true"));
+        }
+    }
+}
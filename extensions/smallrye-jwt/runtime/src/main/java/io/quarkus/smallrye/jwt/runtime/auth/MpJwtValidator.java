@@ -1,5 +1,10 @@
 package io.quarkus.smallrye.jwt.runtime.auth;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import jakarta.enterprise.context.ApplicationScoped;
@@ -8,6 +13,10 @@
 import org.eclipse.microprofile.jwt.JsonWebToken;
 import org.jboss.logging.Logger;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import io.quarkus.security.AuthenticationFailedException;
 import io.quarkus.security.identity.AuthenticationRequestContext;
 import io.quarkus.security.identity.IdentityProvider;
@@ -31,16 +40,48 @@ public class MpJwtValidator implements IdentityProvider<TokenAuthenticationReque
 
     final JWTParser parser;
     final boolean blockingAuthentication;
+    final Cache<String, JsonWebToken> verifiedTokens;
 
     public MpJwtValidator() {
         this.parser = null;
         this.blockingAuthentication = false;
+        this.verifiedTokens = null;
     }
 
     @Inject
     public MpJwtValidator(JWTParser parser, SmallRyeJwtConfig config) {
         this.parser = parser;
         this.blockingAuthentication = config == null ? false : config.blockingAuthentication();
+        this.verifiedTokens = config == null || config.verifiedTokenCache().maxSize() <= 0 ? null
+                : createVerifiedTokenCache(config.verifiedTokenCache());
+    }
+
+    private static Cache<String, JsonWebToken> createVerifiedTokenCache(SmallRyeJwtConfig.VerifiedTokenCache config) {
+        final long timeToLive = config.timeToLive().toNanos();
+        return Caffeine.newBuilder()
+                .maximumSize(config.maxSize())
+                .expireAfter(new Expiry<String, JsonWebToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, JsonWebToken jwt, long currentTime) {
+                        // the token must not be served from the cache once it has expired
+                        long expiresIn = TimeUnit.SECONDS.toNanos(jwt.getExpirationTime())
+                                - TimeUnit.MILLISECONDS.toNanos(System.currentTimeMillis());
+                        return Math.max(0, Math.min(timeToLive, expiresIn));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, JsonWebToken jwt, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, JsonWebToken jwt, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                // the maintenance work is cheap, do it on the calling thread instead of the common pool
+                .executor(Runnable::run)
+                .build();
     }
 
     @Override
@@ -73,7 +114,7 @@ public void accept(UniEmitter<? super SecurityIdentity> uniEmitter) {
 
     private SecurityIdentity createSecurityIdentity(TokenAuthenticationRequest request) {
         try {
-            JsonWebToken jwtPrincipal = parser.parse(request.getToken().getToken());
+            JsonWebToken jwtPrincipal = parse(request.getToken().getToken());
             QuarkusSecurityIdentity.Builder builder = QuarkusSecurityIdentity.builder().setPrincipal(jwtPrincipal)
                     .addCredential(request.getToken())
                     .addRoles(jwtPrincipal.getGroups())
@@ -88,4 +129,29 @@ private SecurityIdentity createSecurityIdentity(TokenAuthenticationRequest reque
             throw new AuthenticationFailedException(e);
         }
     }
+
+    private JsonWebToken parse(String token) throws ParseException {
+        if (verifiedTokens == null) {
+            return parser.parse(token);
+        }
+        // tokens can be large, the cache entries are keyed by the token SHA-256 digest instead of the token itself
+        String key = digest(token);
+        JsonWebToken jwtPrincipal = verifiedTokens.getIfPresent(key);
+        if (jwtPrincipal == null) {
+            jwtPrincipal = parser.parse(token);
+            verifiedTokens.put(key, jwtPrincipal);
+        }
+        return jwtPrincipal;
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            return Base64.getUrlEncoder().withoutPadding()
+                    .encodeToString(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is always supported
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -1,5 +1,7 @@
 package io.quarkus.smallrye.jwt.runtime.auth;
 
+import java.time.Duration;
+
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.smallrye.config.ConfigMapping;
@@ -30,4 +32,27 @@ public interface SmallRyeJwtConfig {
     @WithDefault("false")
     boolean silent();
 
+    /**
+     * Verified token cache configuration.
+     */
+    VerifiedTokenCache verifiedTokenCache();
+
+    interface VerifiedTokenCache {
+
+        /**
+         * Maximum number of verified tokens kept in the cache.
+         * The cache is disabled by default, set this property to a positive value to avoid parsing and verifying
+         * the same token again every time it is sent.
+         */
+        @WithDefault("0")
+        int maxSize();
+
+        /**
+         * Maximum amount of time a verified token is kept in the cache.
+         * A token is evicted earlier if it expires before.
+         * A cached token is not verified again, so keep this value short if the verification keys can be rotated.
+         */
+        @WithDefault("5M")
+        Duration timeToLive();
+    }
 }
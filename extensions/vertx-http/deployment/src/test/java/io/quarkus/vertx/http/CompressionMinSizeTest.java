@@ -0,0 +1,73 @@
+package io.quarkus.vertx.http;
+
+import static io.quarkus.vertx.http.CompressionTest.TEXT;
+import static io.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.nullValue;
+
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.event.Observes;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.ext.web.Router;
+
+public class CompressionMinSizeTest {
+    private static final String APP_PROPS = "" +
+            "quarkus.http.enable-compression=true\n" +
+            "quarkus.http.compression-min-size=100\n";
+
+    private static final String SHORT_TEXT = "Lorem ipsum dolor sit amet";
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource(new StringAsset(APP_PROPS), "application.properties")
+                    .addClasses(CompressionTest.class, BeanRegisteringRoute.class));
+
+    @Test
+    public void test() {
+        given().get("/large").then().statusCode(200)
+                .header("content-encoding", is("gzip"))
+                .header("content-length", Integer::parseInt, lessThan(TEXT.length()))
+                .body(equalTo(TEXT));
+
+        given().get("/small").then().statusCode(200)
+                .header("content-encoding", is(nullValue()))
+                .header("content-length", Integer::parseInt, equalTo(SHORT_TEXT.length()))
+                .body(equalTo(SHORT_TEXT));
+
+        // the size of a chunked response is not known upfront
+        given().get("/chunked").then().statusCode(200)
+                .header("content-encoding", is("gzip"))
+                .body(equalTo(SHORT_TEXT));
+    }
+
+    @ApplicationScoped
+    static class BeanRegisteringRoute {
+
+        public void register(@Observes Router router) {
+            router.route("/large").handler(rc -> {
+                rc.response().headers().remove(HttpHeaders.CONTENT_ENCODING);
+                rc.response().end(TEXT);
+            });
+            router.route("/small").handler(rc -> {
+                rc.response().headers().remove(HttpHeaders.CONTENT_ENCODING);
+                rc.response().end(SHORT_TEXT);
+            });
+            router.route("/chunked").handler(rc -> {
+                rc.response().headers().remove(HttpHeaders.CONTENT_ENCODING);
+                rc.response().setChunked(true);
+                rc.response().end(SHORT_TEXT);
+            });
+        }
+
+    }
+
+}
@@ -0,0 +1,120 @@
+package io.quarkus.vertx.http;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPOutputStream;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.asset.ByteArrayAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.http.Headers;
+
+public class PrecompressedStaticResourcesTest {
+
+    private static final byte[] GZIPPED_APP_JS = gzip("console.log('precompressed');");
+
+    @RegisterExtension
+    final static QuarkusUnitTest test = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .add(new StringAsset("quarkus.http.enable-compression=true\n"
+                            + "quarkus.http.static-resources.precompressed=true\n"),
+                            "application.properties")
+                    .add(new StringAsset("console.log('original');"), "META-INF/resources/app.js")
+                    .add(new ByteArrayAsset(GZIPPED_APP_JS), "META-INF/resources/app.js.gz")
+                    .add(new StringAsset("console.log('not precompressed');"), "META-INF/resources/other.js"));
+
+    @Test
+    public void shouldServePrecompressedVariant() {
+        RestAssured.given().header("Accept-Encoding", "br;q=0, gzip")
+                .get("/app.js")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Content-Type", Matchers.startsWith("text/javascript"))
+                .header("Vary", Matchers.containsStringIgnoringCase("accept-encoding"))
+                .body(Matchers.is("console.log('precompressed');"));
+    }
+
+    @Test
+    public void shouldServeHeadLikeGet() {
+        RestAssured.given().header("Accept-Encoding", "gzip")
+                .head("/app.js")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Content-Length", String.valueOf(GZIPPED_APP_JS.length))
+                .header("Content-Type", Matchers.startsWith("text/javascript"))
+                .header("Vary", Matchers.containsStringIgnoringCase("accept-encoding"))
+                .body(Matchers.emptyString());
+    }
+
+    @Test
+    public void shouldAnswerConditionalRequests() {
+        Headers headers = RestAssured.given().header("Accept-Encoding", "gzip")
+                .get("/app.js")
+                .then()
+                .statusCode(200)
+                .header("Last-Modified", Matchers.notNullValue())
+                .header("ETag", Matchers.notNullValue())
+                .extract().headers();
+
+        RestAssured.given().header("Accept-Encoding", "gzip")
+                .header("If-None-Match", headers.getValue("ETag"))
+                .get("/app.js")
+                .then()
+                .statusCode(304)
+                .header("Content-Encoding", "gzip");
+        RestAssured.given().header("Accept-Encoding", "gzip")
+                .header("If-Modified-Since", headers.getValue("Last-Modified"))
+                .get("/app.js")
+                .then()
+                .statusCode(304);
+        RestAssured.given().header("Accept-Encoding", "gzip")
+                .header("If-None-Match", "\"other\"")
+                .get("/app.js")
+                .then()
+                .statusCode(200)
+                .body(Matchers.is("console.log('precompressed');"));
+    }
+
+    @Test
+    public void shouldServeOriginalIfEncodingNotAccepted() {
+        RestAssured.given().header("Accept-Encoding", "identity")
+                .get("/app.js")
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", Matchers.not("gzip"))
+                .body(Matchers.is("console.log('original');"));
+        RestAssured.given().header("Accept-Encoding", "gzip;q=0")
+                .get("/app.js")
+                .then()
+                .statusCode(200)
+                .body(Matchers.is("console.log('original');"));
+    }
+
+    @Test
+    public void shouldServeResourceWithoutVariant() {
+        RestAssured.given().header("Accept-Encoding", "gzip")
+                .get("/other.js")
+                .then()
+                .statusCode(200)
+                .body(Matchers.is("console.log('not precompressed');"));
+    }
+
+    private static byte[] gzip(String content) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(content.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
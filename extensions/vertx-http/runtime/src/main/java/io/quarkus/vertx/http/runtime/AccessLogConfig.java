@@ -64,6 +64,23 @@ public interface AccessLogConfig {
     @WithDefault("io.quarkus.http.access-log")
     String category();
 
+    /**
+     * If the messages should be passed to the standard log mechanism by a background task instead of the thread
+     * which handled the request.
+     * <p>
+     * The messages are dropped if more than `async-queue-size` messages are pending.
+     * This does not apply when logging to a separate file, which is always done by a background task.
+     */
+    @WithDefault("false")
+    boolean async();
+
+    /**
+     * The maximum number of pending messages if the messages are passed to the standard log mechanism by a background
+     * task.
+     */
+    @WithDefault("10000")
+    int asyncQueueSize();
+
     /**
      * If the log should be rotated daily
      */
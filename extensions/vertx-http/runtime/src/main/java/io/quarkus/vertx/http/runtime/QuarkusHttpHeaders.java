@@ -8,10 +8,10 @@
 import static io.netty.util.AsciiString.CASE_SENSITIVE_HASHER;
 
 import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -48,7 +48,17 @@ public MultiMap setAll(Map<String, String> headers) {
 
     @Override
     public int size() {
-        return names().size();
+        // Count the distinct names without collecting them: the entries of a bucket are ordered from the newest to the
+        // oldest one, so an entry is only counted if no older entry with the same name exists
+        int size = 0;
+        QuarkusHttpHeaders.MapEntry e = head.after;
+        while (e != head) {
+            if (find(e.next, e.hash, e.key) == null) {
+                size++;
+            }
+            e = e.after;
+        }
+        return size;
     }
 
     private final QuarkusHttpHeaders.MapEntry[] entries = new QuarkusHttpHeaders.MapEntry[16];
@@ -196,7 +206,8 @@ public boolean contains(String name, String value, boolean ignoreCase) {
 
     @Override
     public boolean contains(CharSequence name) {
-        return get0(name) != null;
+        int h = AsciiString.hashCode(name);
+        return find(entries[h & 0x0000000F], h, name) != null;
     }
 
     @Override
@@ -220,18 +231,16 @@ public String get(String name) {
     public List<String> getAll(CharSequence name) {
         Objects.requireNonNull(name, "name");
 
-        LinkedList<String> values = new LinkedList<>();
-
         int h = AsciiString.hashCode(name);
         int i = h & 0x0000000F;
-        QuarkusHttpHeaders.MapEntry e = entries[i];
+        QuarkusHttpHeaders.MapEntry e = find(entries[i], h, name);
+        List<String> values = new ArrayList<>(e == null ? 0 : 4);
         while (e != null) {
-            CharSequence key = e.key;
-            if (e.hash == h && (name == key || AsciiString.contentEqualsIgnoreCase(name, key))) {
-                values.addFirst(e.getValue().toString());
-            }
-            e = e.next;
+            values.add(e.getValue().toString());
+            e = find(e.next, h, name);
         }
+        // The entries are ordered from the newest to the oldest one
+        Collections.reverse(values);
         return values;
     }
 
@@ -557,16 +566,30 @@ private QuarkusHttpHeaders set0(final CharSequence name, final CharSequence strV
     private CharSequence get0(CharSequence name) {
         int h = AsciiString.hashCode(name);
         int i = h & 0x0000000F;
-        QuarkusHttpHeaders.MapEntry e = entries[i];
-        CharSequence value = null;
+        QuarkusHttpHeaders.MapEntry e = find(entries[i], h, name);
+        if (e == null) {
+            return null;
+        }
+        // Return the oldest value, i.e. the last one in the bucket
+        QuarkusHttpHeaders.MapEntry last = e;
+        while ((e = find(e.next, h, name)) != null) {
+            last = e;
+        }
+        return last.getValue();
+    }
+
+    /**
+     * @return the first entry with the given name starting from {@code e}, or {@code null}
+     */
+    private static QuarkusHttpHeaders.MapEntry find(QuarkusHttpHeaders.MapEntry e, int h, CharSequence name) {
         while (e != null) {
             CharSequence key = e.key;
             if (e.hash == h && (name == key || AsciiString.contentEqualsIgnoreCase(name, key))) {
-                value = e.getValue();
+                return e;
             }
             e = e.next;
         }
-        return value;
+        return null;
     }
 
     private MultiMap set0(Iterable<Map.Entry<String, String>> map) {
@@ -48,6 +48,15 @@ public interface StaticResourcesConfig {
     @WithDefault("10000")
     int maxCacheSize();
 
+    /**
+     * Set whether the precompressed variants of the static resources should be served.
+     * <p>
+     * If a resource such as `app.js` has an `app.js.br` or `app.js.gz` sibling, this variant is sent as is to the clients
+     * accepting the corresponding encoding, instead of compressing the resource again for every request.
+     */
+    @WithDefault("false")
+    boolean precompressed();
+
     /**
      * Content encoding for text related files
      */
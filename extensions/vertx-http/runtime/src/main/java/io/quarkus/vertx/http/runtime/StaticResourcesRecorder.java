@@ -4,25 +4,38 @@
 
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.annotations.Recorder;
+import io.vertx.core.AsyncResult;
 import io.vertx.core.Handler;
+import io.vertx.core.file.FileProps;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.impl.MimeMapping;
 import io.vertx.ext.web.Route;
 import io.vertx.ext.web.RoutingContext;
 import io.vertx.ext.web.handler.FileSystemAccess;
 import io.vertx.ext.web.handler.StaticHandler;
+import io.vertx.ext.web.impl.Utils;
 
 @Recorder
 public class StaticResourcesRecorder {
 
     public static final String META_INF_RESOURCES = "META-INF/resources";
 
+    /**
+     * The supported precompressed variants: the encoding and the corresponding file extension, in order of preference.
+     */
+    private static final String[][] PRECOMPRESSED_ENCODINGS = { { "br", ".br" }, { "gzip", ".gz" } };
+
     private static volatile List<Path> hotDeploymentResourcePaths;
 
     final RuntimeValue<VertxHttpConfig> httpConfig;
@@ -92,6 +105,10 @@ public void handle(RoutingContext ctx) {
             final String indexPage = (config.indexPage().charAt(0) == '/')
                     ? config.indexPage().substring(1)
                     : config.indexPage();
+            final Map<String, List<String>> precompressedVariants = config.precompressed()
+                    ? findPrecompressedVariants(knownPaths)
+                    : Map.of();
+            final String cacheControl = config.cachingEnabled() ? "public, max-age=" + config.maxAge().toSeconds() : null;
             handlers.add(new Handler<>() {
                 @Override
                 public void handle(RoutingContext ctx) {
@@ -102,6 +119,10 @@ public void handle(RoutingContext ctx) {
                     }
                     // check effective path, otherwise the index page when path ends with '/'
                     if (knownPaths.contains(rel) || (rel.endsWith("/") && knownPaths.contains(rel.concat(indexPage)))) {
+                        if (!precompressedVariants.isEmpty() && sendPrecompressedVariant(ctx,
+                                rel.endsWith("/") ? rel.concat(indexPage) : rel, precompressedVariants, cacheControl)) {
+                            return;
+                        }
                         compressIfNeeded(httpBuildTimeConfig, compressMediaTypes, ctx, rel);
                         staticHandler.handle(ctx);
                     } else {
@@ -129,4 +150,136 @@ public void accept(Route route) {
         };
     }
 
+    /**
+     * Collects the resources for which a precompressed variant, i.e. a sibling with the {@code .br} or {@code .gz}
+     * extension, is available.
+     *
+     * @return the available encodings per resource, in order of preference
+     */
+    static Map<String, List<String>> findPrecompressedVariants(Set<String> knownPaths) {
+        Map<String, List<String>> variants = new HashMap<>();
+        for (String path : knownPaths) {
+            List<String> encodings = new ArrayList<>(PRECOMPRESSED_ENCODINGS.length);
+            for (String[] encoding : PRECOMPRESSED_ENCODINGS) {
+                if (knownPaths.contains(path + encoding[1])) {
+                    encodings.add(encoding[0]);
+                }
+            }
+            if (!encodings.isEmpty()) {
+                variants.put(path, List.copyOf(encodings));
+            }
+        }
+        return variants;
+    }
+
+    /**
+     * Sends the precompressed variant of the resource if there is one the client accepts. HEAD requests get the same
+     * headers as GET requests. When caching is enabled, the response carries the {@code Last-Modified} and {@code ETag}
+     * validators of the variant and conditional requests are answered with {@code 304 Not Modified}.
+     *
+     * @return {@code true} if the variant is sent, {@code false} if the resource should be served as usual
+     */
+    private static boolean sendPrecompressedVariant(RoutingContext ctx, String path,
+            Map<String, List<String>> precompressedVariants, String cacheControl) {
+        List<String> encodings = precompressedVariants.get(path);
+        if (encodings == null || ctx.request().headers().contains(HttpHeaders.RANGE)) {
+            // range requests are served by the static handler
+            return false;
+        }
+        HttpMethod method = ctx.request().method();
+        if (method != HttpMethod.GET && method != HttpMethod.HEAD) {
+            return false;
+        }
+        String acceptEncoding = ctx.request().getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String encoding : encodings) {
+            if (isAccepted(acceptEncoding, encoding)) {
+                String variant = META_INF_RESOURCES + path + extension(encoding);
+                ctx.vertx().fileSystem().props(variant).onComplete(new Handler<AsyncResult<FileProps>>() {
+                    @Override
+                    public void handle(AsyncResult<FileProps> result) {
+                        if (result.failed()) {
+                            ctx.fail(result.cause());
+                            return;
+                        }
+                        sendPrecompressedVariant(ctx, path, encoding, variant, result.result(), cacheControl);
+                    }
+                });
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void sendPrecompressedVariant(RoutingContext ctx, String path, String encoding, String variant,
+            FileProps props, String cacheControl) {
+        HttpServerResponse response = ctx.response();
+        String contentType = MimeMapping.getMimeTypeForFilename(path);
+        if (contentType != null) {
+            response.headers().set(HttpHeaders.CONTENT_TYPE,
+                    contentType.startsWith("text") ? contentType + ";charset=UTF-8" : contentType);
+        }
+        // the variant is already compressed, it must not be compressed again
+        response.headers().set(HttpHeaders.CONTENT_ENCODING, encoding);
+        response.headers().add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (cacheControl != null) {
+            response.headers().set(HttpHeaders.CACHE_CONTROL, cacheControl);
+            response.headers().set(HttpHeaders.LAST_MODIFIED, Utils.formatRFC1123DateTime(props.lastModifiedTime()));
+            // the encoding is part of the tag, as each variant is a different representation of the resource
+            response.headers().set(HttpHeaders.ETAG,
+                    "\"" + props.size() + "-" + props.lastModifiedTime() + "-" + encoding + "\"");
+            if (Utils.fresh(ctx, props.lastModifiedTime())) {
+                response.setStatusCode(HttpResponseStatus.NOT_MODIFIED.code()).end();
+                return;
+            }
+        }
+        if (ctx.request().method() == HttpMethod.HEAD) {
+            response.headers().set(HttpHeaders.CONTENT_LENGTH, Long.toString(props.size()));
+            response.end();
+            return;
+        }
+        response.sendFile(variant).onFailure(new Handler<Throwable>() {
+            @Override
+            public void handle(Throwable t) {
+                ctx.fail(t);
+            }
+        });
+    }
+
+    /**
+     * @return {@code true} if the {@code Accept-Encoding} header value lists the encoding with a non-zero quality
+     */
+    static boolean isAccepted(String acceptEncoding, String encoding) {
+        for (String part : acceptEncoding.split(",")) {
+            int paramsStart = part.indexOf(';');
+            String coding = (paramsStart == -1 ? part : part.substring(0, paramsStart)).trim();
+            if (coding.equalsIgnoreCase(encoding)) {
+                if (paramsStart == -1) {
+                    return true;
+                }
+                String params = part.substring(paramsStart + 1).trim();
+                if (!params.startsWith("q=")) {
+                    return true;
+                }
+                try {
+                    return Double.parseDouble(params.substring(2).trim()) > 0;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String extension(String encoding) {
+        for (String[] e : PRECOMPRESSED_ENCODINGS) {
+            if (e[0].equals(encoding)) {
+                return e[1];
+            }
+        }
+        throw new IllegalArgumentException(encoding);
+    }
+
 }
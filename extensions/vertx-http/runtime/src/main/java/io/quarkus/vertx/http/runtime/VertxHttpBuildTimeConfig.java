@@ -7,6 +7,7 @@
 
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
 import io.quarkus.runtime.configuration.NormalizeRootHttpPathConverter;
 import io.quarkus.vertx.http.Compressed;
 import io.quarkus.vertx.http.Uncompressed;
@@ -122,4 +123,14 @@ public interface VertxHttpBuildTimeConfig {
      * The compression level used when compression support is enabled.
      */
     OptionalInt compressionLevel();
+
+    /**
+     * The minimum size of a response body that is compressed when compression support is enabled.
+     * <p>
+     * Responses with a {@code Content-Length} header value smaller than this threshold are sent uncompressed, even if the
+     * compression was enabled for the media type or declaratively via {@link Compressed}, because the compression of
+     * small bodies costs CPU time and does not save bandwidth. Responses without a {@code Content-Length} header, i.e.
+     * chunked responses, are always compressed. If not set then the size of the response body is not considered.
+     */
+    Optional<MemorySize> compressionMinSize();
 }
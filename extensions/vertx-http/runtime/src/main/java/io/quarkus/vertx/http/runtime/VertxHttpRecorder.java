@@ -85,6 +85,7 @@
 import io.quarkus.vertx.http.runtime.filters.QuarkusRequestWrapper;
 import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogHandler;
 import io.quarkus.vertx.http.runtime.filters.accesslog.AccessLogReceiver;
+import io.quarkus.vertx.http.runtime.filters.accesslog.AsyncAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.filters.accesslog.DefaultAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.filters.accesslog.JBossLoggingAccessLogReceiver;
 import io.quarkus.vertx.http.runtime.management.ManagementConfig;
@@ -103,6 +104,7 @@
 import io.vertx.core.Context;
 import io.vertx.core.DeploymentOptions;
 import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
 import io.vertx.core.Promise;
 import io.vertx.core.Verticle;
 import io.vertx.core.Vertx;
@@ -439,7 +441,7 @@ public void finalizeRouter(BeanContainer container, Consumer<Route> defaultRoute
             defaultRouteHandler.accept(httpRouteRouter.route().order(RouteConstants.ROUTE_ORDER_DEFAULT));
         }
 
-        applyCompression(httpBuildTimeConfig.enableCompression(), httpRouteRouter);
+        applyCompression(httpBuildTimeConfig.enableCompression(), httpBuildTimeConfig.compressionMinSize(), httpRouteRouter);
         httpRouteRouter.route().last().failureHandler(
                 new QuarkusErrorHandler(launchMode.isDevOrTest(), decorateStacktrace(launchMode, logBuildTimeConfig),
                         httpConfig.unhandledErrorContentTypeDefault(), srcMainJava, knowClasses, actions));
@@ -498,6 +500,9 @@ public void handle(RoutingContext routingContext) {
                         accessLog.rotate());
             } else {
                 receiver = new JBossLoggingAccessLogReceiver(accessLog.category());
+                if (accessLog.async()) {
+                    receiver = new AsyncAccessLogReceiver(receiver, executor, accessLog.asyncQueueSize());
+                }
             }
             setupAccessLogHandler(mainRouterRuntimeValue, httpRouterRuntimeValue, frameworkRouter, receiver, rootPath,
                     nonRootPath, accessLog.pattern(), accessLog.consolidateReroutedRequests(), accessLog.excludePattern());
@@ -579,7 +584,7 @@ public void handle(RoutingContext event) {
             }
 
             HttpServerCommonHandlers.applyHeaders(managementConfig.getValue().header(), mr);
-            applyCompression(managementBuildTimeConfig.enableCompression(), mr);
+            applyCompression(managementBuildTimeConfig.enableCompression(), Optional.empty(), mr);
 
             Handler<HttpServerRequest> handler = HttpServerCommonHandlers.enforceDuplicatedContext(mr, mustResumeRequest);
             handler = HttpServerCommonHandlers.applyProxy(managementConfig.getValue().proxy(), handler, vertx);
@@ -648,20 +653,50 @@ private void addHotReplacementHandlerIfNeeded(Router router) {
         }
     }
 
-    private void applyCompression(boolean enableCompression, Router httpRouteRouter) {
+    private void applyCompression(boolean enableCompression, Optional<MemorySize> compressionMinSize,
+            Router httpRouteRouter) {
         if (enableCompression) {
+            final long minSize = compressionMinSize.isPresent() ? compressionMinSize.get().asLongValue() : 0;
             httpRouteRouter.route().order(RouteConstants.ROUTE_ORDER_COMPRESSION).handler(new Handler<RoutingContext>() {
                 @Override
                 public void handle(RoutingContext ctx) {
                     // Add "Content-Encoding: identity" header that disables the compression
                     // This header can be removed to enable the compression
                     ctx.response().putHeader(HttpHeaders.CONTENT_ENCODING, HttpHeaders.IDENTITY);
+                    if (minSize > 0) {
+                        // Headers end handlers are called in the reverse order, i.e. this one is called after the
+                        // handlers registered by the routes that enable the compression
+                        ctx.addHeadersEndHandler(new Handler<Void>() {
+                            @Override
+                            public void handle(Void event) {
+                                disableCompressionIfTooSmall(ctx, minSize);
+                            }
+                        });
+                    }
                     ctx.next();
                 }
             });
         }
     }
 
+    private static void disableCompressionIfTooSmall(RoutingContext ctx, long minSize) {
+        MultiMap headers = ctx.response().headers();
+        if (headers.contains(HttpHeaders.CONTENT_ENCODING)) {
+            // Either the compression was not enabled for this response or the body is already encoded
+            return;
+        }
+        String contentLength = headers.get(HttpHeaders.CONTENT_LENGTH);
+        if (contentLength != null) {
+            try {
+                if (Long.parseLong(contentLength) < minSize) {
+                    headers.set(HttpHeaders.CONTENT_ENCODING, HttpHeaders.IDENTITY);
+                }
+            } catch (NumberFormatException ignored) {
+                // Let the compressor decide
+            }
+        }
+    }
+
     private void warnIfProxyAddressForwardingAllowedWithMultipleHeaders(ProxyConfig proxyConfig) {
         boolean proxyAddressForwardingActivated = proxyConfig.proxyAddressForwarding();
         boolean forwardedActivated = proxyConfig.allowForwarded();
@@ -0,0 +1,141 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jboss.logging.Logger;
+import org.jboss.logging.MDC;
+
+/**
+ * Access log receiver that passes the messages to a delegate receiver from a background task, so that the request
+ * threads do not pay for the actual logging.
+ * <p>
+ * The number of pending messages is bounded, the messages are dropped when the limit is reached. The request threads
+ * are never blocked as they are usually event loop threads.
+ * <p>
+ * The MDC of the request thread, for example the trace and span ids, is captured with each message and restored while the
+ * message is passed to the delegate.
+ * <p>
+ * Like in {@link DefaultAccessLogReceiver}, a lightweight CAS based locking mechanism is used to ensure that only 1
+ * thread is active passing messages to the delegate at any given time.
+ */
+public class AsyncAccessLogReceiver implements AccessLogReceiver, Runnable {
+
+    private static final Logger log = Logger.getLogger(AsyncAccessLogReceiver.class);
+
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    private final AccessLogReceiver delegate;
+    private final Executor logWriteExecutor;
+    private final Queue<PendingMessage> pendingMessages;
+    private final Semaphore capacity;
+    private final LongAdder droppedMessages;
+    private final AtomicBoolean droppedMessagesLogged = new AtomicBoolean();
+
+    //0 = not running
+    //1 = queued
+    //2 = running
+    @SuppressWarnings("unused")
+    private volatile int state = 0;
+
+    private static final AtomicIntegerFieldUpdater<AsyncAccessLogReceiver> stateUpdater = AtomicIntegerFieldUpdater
+            .newUpdater(AsyncAccessLogReceiver.class, "state");
+
+    public AsyncAccessLogReceiver(AccessLogReceiver delegate, Executor logWriteExecutor, int queueSize) {
+        if (queueSize <= 0) {
+            throw new IllegalArgumentException("The access log queue size must be positive: " + queueSize);
+        }
+        this.delegate = delegate;
+        this.logWriteExecutor = logWriteExecutor;
+        this.pendingMessages = new ConcurrentLinkedQueue<>();
+        this.capacity = new Semaphore(queueSize);
+        this.droppedMessages = new LongAdder();
+    }
+
+    @Override
+    public void logMessage(String message) {
+        if (!capacity.tryAcquire()) {
+            droppedMessages.increment();
+            if (droppedMessagesLogged.compareAndSet(false, true)) {
+                log.warn("The access log queue is full, access log messages are dropped");
+            }
+            return;
+        }
+        Map<String, Object> mdc = MDC.getMap();
+        pendingMessages.add(new PendingMessage(message, mdc == null || mdc.isEmpty() ? null : new HashMap<>(mdc)));
+        if (stateUpdater.get(this) == 0) {
+            if (stateUpdater.compareAndSet(this, 0, 1)) {
+                logWriteExecutor.execute(this);
+            }
+        }
+    }
+
+    /**
+     * passes the queued log messages to the delegate
+     */
+    @Override
+    public void run() {
+        if (!stateUpdater.compareAndSet(this, 1, 2)) {
+            return;
+        }
+        try {
+            PendingMessage msg;
+            //only pass at most 1000 messages at a time
+            for (int i = 0; i < MAX_BATCH_SIZE; ++i) {
+                msg = pendingMessages.poll();
+                if (msg == null) {
+                    break;
+                }
+                capacity.release();
+                try {
+                    msg.log(delegate);
+                } catch (Exception e) {
+                    log.error("Error writing access log", e);
+                }
+            }
+        } finally {
+            stateUpdater.set(this, 0);
+            //check to see if there is still more messages
+            //if so then run this again
+            if (!pendingMessages.isEmpty()) {
+                if (stateUpdater.compareAndSet(this, 0, 1)) {
+                    logWriteExecutor.execute(this);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the number of messages which were dropped because the queue was full
+     */
+    public long getDroppedMessages() {
+        return droppedMessages.sum();
+    }
+
+    private record PendingMessage(String message, Map<String, Object> mdc) {
+
+        void log(AccessLogReceiver delegate) {
+            if (mdc == null) {
+                delegate.logMessage(message);
+                return;
+            }
+            for (Map.Entry<String, Object> entry : mdc.entrySet()) {
+                MDC.put(entry.getKey(), entry.getValue());
+            }
+            try {
+                delegate.logMessage(message);
+            } finally {
+                for (String key : mdc.keySet()) {
+                    MDC.remove(key);
+                }
+            }
+        }
+    }
+}
@@ -37,8 +37,8 @@ public class AbstractPathMatchingHttpSecurityPolicy {
 
     private static final String PATH_MATCHING_POLICY_FOUND = AbstractPathMatchingHttpSecurityPolicy.class.getName()
             + ".POLICY_FOUND";
-    private final ImmutablePathMatcher<List<HttpMatcher>> pathMatcher;
-    private final List<ImmutablePathMatcher<List<HttpMatcher>>> sharedPermissionsPathMatchers;
+    private final ImmutablePathMatcher<HttpMatchers> pathMatcher;
+    private final List<ImmutablePathMatcher<HttpMatchers>> sharedPermissionsPathMatchers;
     private final boolean hasNoPermissions;
 
     AbstractPathMatchingHttpSecurityPolicy(Map<String, PolicyMappingConfig> permissions,
@@ -46,8 +46,8 @@ public class AbstractPathMatchingHttpSecurityPolicy {
             PolicyMappingConfig.AppliesTo appliesTo) {
         boolean hasNoPermissions = true;
         var namedHttpSecurityPolicies = toNamedHttpSecPolicies(rolePolicy, installedPolicies);
-        List<ImmutablePathMatcher<List<HttpMatcher>>> sharedPermsMatchers = new ArrayList<>();
-        final var builder = ImmutablePathMatcher.<List<HttpMatcher>> builder().handlerAccumulator(List::addAll)
+        List<ImmutablePathMatcher<HttpMatchers>> sharedPermsMatchers = new ArrayList<>();
+        final var builder = ImmutablePathMatcher.<HttpMatchers> builder().handlerAccumulator(HttpMatchers::addAll)
                 .rootPath(rootPath);
         for (PolicyMappingConfig policyMappingConfig : permissions.values()) {
             if (appliesTo != policyMappingConfig.appliesTo()) {
@@ -57,7 +57,7 @@ public class AbstractPathMatchingHttpSecurityPolicy {
                 hasNoPermissions = false;
             }
             if (policyMappingConfig.shared()) {
-                final var builder1 = ImmutablePathMatcher.<List<HttpMatcher>> builder().handlerAccumulator(List::addAll)
+                final var builder1 = ImmutablePathMatcher.<HttpMatchers> builder().handlerAccumulator(HttpMatchers::addAll)
                         .rootPath(rootPath);
                 addPermissionToPathMatcher(namedHttpSecurityPolicies, policyMappingConfig, builder1);
                 sharedPermsMatchers.add(builder1.build());
@@ -72,7 +72,7 @@ public class AbstractPathMatchingHttpSecurityPolicy {
 
     public String getAuthMechanismName(RoutingContext routingContext) {
         if (sharedPermissionsPathMatchers != null) {
-            for (ImmutablePathMatcher<List<HttpMatcher>> matcher : sharedPermissionsPathMatchers) {
+            for (ImmutablePathMatcher<HttpMatchers> matcher : sharedPermissionsPathMatchers) {
                 String authMechanismName = getAuthMechanismName(routingContext, matcher);
                 if (authMechanismName != null) {
                     return authMechanismName;
@@ -93,9 +93,11 @@ public Uni<CheckResult> checkPermission(RoutingContext routingContext, Uni<Secur
 
     Uni<CheckResult> checkPermissions(RoutingContext routingContext, Uni<SecurityIdentity> identity,
             AuthorizationRequestContext requestContext, HttpSecurityPolicy... additionalPolicies) {
-        final List<HttpSecurityPolicy> permissionCheckers = hasNoPermissions ? new ArrayList<>()
+        List<HttpSecurityPolicy> permissionCheckers = hasNoPermissions ? List.of()
                 : getHttpSecurityPolicies(routingContext);
         if (additionalPolicies.length > 0) {
+            // the policies found for the path are shared between requests, they must not be modified
+            permissionCheckers = new ArrayList<>(permissionCheckers);
             if (additionalPolicies.length == 1) {
                 permissionCheckers.add(additionalPolicies[0]);
             } else {
@@ -111,7 +113,7 @@ private List<HttpSecurityPolicy> getHttpSecurityPolicies(RoutingContext routingC
             permissionCheckers = findPermissionCheckers(routingContext, pathMatcher);
         } else {
             permissionCheckers = new ArrayList<>();
-            for (ImmutablePathMatcher<List<HttpMatcher>> matcher : sharedPermissionsPathMatchers) {
+            for (ImmutablePathMatcher<HttpMatchers> matcher : sharedPermissionsPathMatchers) {
                 permissionCheckers.addAll(findPermissionCheckers(routingContext, matcher));
             }
             permissionCheckers.addAll(findPermissionCheckers(routingContext, pathMatcher));
@@ -161,12 +163,12 @@ public Uni<? extends CheckResult> apply(CheckResult checkResult) {
     }
 
     private static String getAuthMechanismName(RoutingContext routingContext,
-            ImmutablePathMatcher<List<HttpMatcher>> pathMatcher) {
-        PathMatch<List<HttpMatcher>> toCheck = pathMatcher.match(routingContext.normalizedPath());
-        if (toCheck.getValue() == null || toCheck.getValue().isEmpty()) {
+            ImmutablePathMatcher<HttpMatchers> pathMatcher) {
+        PathMatch<HttpMatchers> toCheck = pathMatcher.match(routingContext.normalizedPath());
+        if (toCheck.getValue() == null) {
             return null;
         }
-        for (HttpMatcher i : toCheck.getValue()) {
+        for (HttpMatcher i : toCheck.getValue().matchers) {
             if (i.authMechanism != null) {
                 return i.authMechanism;
             }
@@ -176,7 +178,7 @@ private static String getAuthMechanismName(RoutingContext routingContext,
 
     private static void addPermissionToPathMatcher(Map<String, HttpSecurityPolicy> permissionCheckers,
             PolicyMappingConfig policyMappingConfig,
-            ImmutablePathMatcher.ImmutablePathMatcherBuilder<List<HttpMatcher>> builder) {
+            ImmutablePathMatcher.ImmutablePathMatcherBuilder<HttpMatchers> builder) {
         HttpSecurityPolicy checker = permissionCheckers.get(policyMappingConfig.policy());
         if (checker == null) {
             throw new RuntimeException("Unable to find HTTP security policy " + policyMappingConfig.policy());
@@ -186,39 +188,20 @@ private static void addPermissionToPathMatcher(Map<String, HttpSecurityPolicy> p
             for (String path : policyMappingConfig.paths().orElse(Collections.emptyList())) {
                 HttpMatcher m = new HttpMatcher(policyMappingConfig.authMechanism().orElse(null),
                         new HashSet<>(policyMappingConfig.methods().orElse(Collections.emptyList())), checker);
-                List<HttpMatcher> perms = new ArrayList<>();
-                perms.add(m);
+                HttpMatchers perms = new HttpMatchers();
+                perms.matchers.add(m);
                 builder.addPath(path, perms);
             }
         }
     }
 
     private static List<HttpSecurityPolicy> findPermissionCheckers(RoutingContext context,
-            ImmutablePathMatcher<List<HttpMatcher>> pathMatcher) {
-        var result = new ArrayList<HttpSecurityPolicy>();
-
-        PathMatch<List<HttpMatcher>> toCheck = pathMatcher.match(context.normalizedPath());
-        if (toCheck.getValue() == null || toCheck.getValue().isEmpty()) {
-            return result;
-        }
-        List<HttpSecurityPolicy> methodMatch = new ArrayList<>();
-        List<HttpSecurityPolicy> noMethod = new ArrayList<>();
-        for (HttpMatcher i : toCheck.getValue()) {
-            if (i.methods == null || i.methods.isEmpty()) {
-                noMethod.add(i.checker);
-            } else if (i.methods.contains(context.request().method().toString())) {
-                methodMatch.add(i.checker);
-            }
+            ImmutablePathMatcher<HttpMatchers> pathMatcher) {
+        PathMatch<HttpMatchers> toCheck = pathMatcher.match(context.normalizedPath());
+        if (toCheck.getValue() == null) {
+            return List.of();
         }
-        if (!methodMatch.isEmpty()) {
-            result.addAll(methodMatch);
-        } else if (!noMethod.isEmpty()) {
-            result.addAll(noMethod);
-        } else {
-            //we deny if we did not match due to method filtering
-            result.add(DenySecurityPolicy.INSTANCE);
-        }
-        return result;
+        return toCheck.getValue().getPolicies(context.request().method().toString());
     }
 
     static boolean policyApplied(RoutingContext routingContext) {
@@ -414,4 +397,62 @@ static ConfigurationException duplicateNamedPoliciesNotAllowedEx(HttpSecurityPol
     record HttpMatcher(String authMechanism, Set<String> methods, HttpSecurityPolicy checker) {
 
     }
+
+    /**
+     * All the matchers registered for a path. The policies to apply for each HTTP method are resolved once, the first
+     * time the path is matched, so that the same immutable list is returned for the subsequent requests.
+     */
+    static final class HttpMatchers {
+
+        private final List<HttpMatcher> matchers = new ArrayList<>();
+        private volatile MethodPolicies methodPolicies;
+
+        void addAll(HttpMatchers other) {
+            matchers.addAll(other.matchers);
+        }
+
+        List<HttpSecurityPolicy> getPolicies(String method) {
+            MethodPolicies methodPolicies = this.methodPolicies;
+            if (methodPolicies == null) {
+                // the matchers do not change once the path matcher is built, a race only computes the same value twice
+                methodPolicies = this.methodPolicies = resolveMethodPolicies(matchers);
+            }
+            List<HttpSecurityPolicy> policies = methodPolicies.methodToPolicies.get(method);
+            return policies != null ? policies : methodPolicies.otherMethodPolicies;
+        }
+
+        private static MethodPolicies resolveMethodPolicies(List<HttpMatcher> matchers) {
+            if (matchers.isEmpty()) {
+                return new MethodPolicies(Map.of(), List.of());
+            }
+            Map<String, List<HttpSecurityPolicy>> methodMatch = new HashMap<>();
+            List<HttpSecurityPolicy> noMethod = new ArrayList<>();
+            for (HttpMatcher i : matchers) {
+                if (i.methods == null || i.methods.isEmpty()) {
+                    noMethod.add(i.checker);
+                } else {
+                    for (String method : i.methods) {
+                        methodMatch.computeIfAbsent(method, new Function<String, List<HttpSecurityPolicy>>() {
+                            @Override
+                            public List<HttpSecurityPolicy> apply(String m) {
+                                return new ArrayList<>();
+                            }
+                        }).add(i.checker);
+                    }
+                }
+            }
+            Map<String, List<HttpSecurityPolicy>> methodToPolicies = new HashMap<>();
+            for (Map.Entry<String, List<HttpSecurityPolicy>> e : methodMatch.entrySet()) {
+                methodToPolicies.put(e.getKey(), List.copyOf(e.getValue()));
+            }
+            //we deny if we did not match due to method filtering
+            return new MethodPolicies(Map.copyOf(methodToPolicies),
+                    noMethod.isEmpty() ? List.of(DenySecurityPolicy.INSTANCE) : List.copyOf(noMethod));
+        }
+    }
+
+    private record MethodPolicies(Map<String, List<HttpSecurityPolicy>> methodToPolicies,
+            List<HttpSecurityPolicy> otherMethodPolicies) {
+
+    }
 }
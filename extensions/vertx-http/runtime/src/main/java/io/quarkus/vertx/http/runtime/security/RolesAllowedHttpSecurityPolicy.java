@@ -16,11 +16,14 @@
 public class RolesAllowedHttpSecurityPolicy extends RolesMapping implements HttpSecurityPolicy {
     private static final String AUTHENTICATED = "**";
     private final String[] rolesAllowed;
+    private final boolean authenticatedAllowed;
 
     public RolesAllowedHttpSecurityPolicy(List<String> rolesAllowed, Map<String, Set<Permission>> roleToPermissions,
             Map<String, List<String>> roleToRoles) {
         super(roleToPermissions, roleToRoles);
-        this.rolesAllowed = rolesAllowed.toArray(String[]::new);
+        // resolve the '**' role once instead of comparing every allowed role with it for every request
+        this.authenticatedAllowed = rolesAllowed.contains(AUTHENTICATED);
+        this.rolesAllowed = rolesAllowed.stream().filter(r -> !AUTHENTICATED.equals(r)).distinct().toArray(String[]::new);
     }
 
     @Override
@@ -32,21 +35,23 @@ public CheckResult apply(SecurityIdentity securityIdentity) {
                 if (grantPermissions || grantRoles) {
                     SecurityIdentity augmented = augmentIdentity(securityIdentity);
                     if (augmented != null) {
-                        for (String i : rolesAllowed) {
-                            if (augmented.hasRole(i) || (AUTHENTICATED.equals(i) && !augmented.isAnonymous())) {
-                                return new CheckResult(true, augmented);
-                            }
-                        }
-                        return new CheckResult(false, augmented);
+                        return new CheckResult(isAllowed(augmented), augmented);
                     }
                 }
-                for (String i : rolesAllowed) {
-                    if (securityIdentity.hasRole(i) || (AUTHENTICATED.equals(i) && !securityIdentity.isAnonymous())) {
-                        return CheckResult.PERMIT;
-                    }
-                }
-                return CheckResult.DENY;
+                return isAllowed(securityIdentity) ? CheckResult.PERMIT : CheckResult.DENY;
             }
         });
     }
+
+    private boolean isAllowed(SecurityIdentity securityIdentity) {
+        if (authenticatedAllowed && !securityIdentity.isAnonymous()) {
+            return true;
+        }
+        for (String i : rolesAllowed) {
+            if (securityIdentity.hasRole(i)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -0,0 +1,58 @@
+package io.quarkus.vertx.http.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.vertx.core.http.HttpHeaders;
+
+public class QuarkusHttpHeadersTest {
+
+    @Test
+    public void testGetReturnsFirstValue() {
+        QuarkusHttpHeaders headers = new QuarkusHttpHeaders();
+        headers.add("Accept", "text/plain");
+        headers.add("accept", "application/json");
+        assertEquals("text/plain", headers.get(HttpHeaders.ACCEPT));
+        assertEquals(List.of("text/plain", "application/json"), headers.getAll("ACCEPT"));
+        assertNull(headers.get("Content-Type"));
+        assertTrue(headers.getAll("Content-Type").isEmpty());
+    }
+
+    @Test
+    public void testContains() {
+        QuarkusHttpHeaders headers = new QuarkusHttpHeaders();
+        assertFalse(headers.contains("Accept"));
+        headers.add(HttpHeaders.ACCEPT, "text/plain");
+        assertTrue(headers.contains("accept"));
+        assertTrue(headers.contains(HttpHeaders.ACCEPT, "TEXT/PLAIN", true));
+        assertFalse(headers.contains(HttpHeaders.ACCEPT, "TEXT/PLAIN", false));
+        headers.remove("Accept");
+        assertFalse(headers.contains(HttpHeaders.ACCEPT));
+    }
+
+    @Test
+    public void testSizeCountsDistinctNames() {
+        QuarkusHttpHeaders headers = new QuarkusHttpHeaders();
+        assertEquals(0, headers.size());
+        headers.add("Accept", "text/plain");
+        headers.add("Host", "localhost");
+        headers.add("accept", "application/json");
+        for (int i = 0; i < 40; i++) {
+            headers.add("X-Header-" + i, "value");
+        }
+        assertEquals(42, headers.size());
+        assertEquals(headers.names().size(), headers.size());
+        headers.set("Accept", "text/html");
+        assertEquals(42, headers.size());
+        assertEquals("text/html", headers.get("accept"));
+        headers.clear();
+        assertEquals(0, headers.size());
+        assertTrue(headers.isEmpty());
+    }
+}
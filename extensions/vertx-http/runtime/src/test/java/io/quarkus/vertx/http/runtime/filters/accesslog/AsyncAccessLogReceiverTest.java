@@ -0,0 +1,92 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+import org.jboss.logging.MDC;
+import org.junit.jupiter.api.Test;
+
+public class AsyncAccessLogReceiverTest {
+
+    @Test
+    public void testMessagesArePassedInTheBackground() {
+        List<String> messages = new ArrayList<>();
+        ManualExecutor executor = new ManualExecutor();
+        AsyncAccessLogReceiver receiver = new AsyncAccessLogReceiver(messages::add, executor, 10);
+
+        receiver.logMessage("1");
+        receiver.logMessage("2");
+        assertTrue(messages.isEmpty());
+        // a single task is scheduled for both messages
+        assertEquals(1, executor.tasks.size());
+
+        executor.runAll();
+        assertEquals(List.of("1", "2"), messages);
+        assertEquals(0, receiver.getDroppedMessages());
+    }
+
+    @Test
+    public void testMessagesAreDroppedWhenTheQueueIsFull() {
+        List<String> messages = new ArrayList<>();
+        ManualExecutor executor = new ManualExecutor();
+        AsyncAccessLogReceiver receiver = new AsyncAccessLogReceiver(messages::add, executor, 2);
+
+        receiver.logMessage("1");
+        receiver.logMessage("2");
+        receiver.logMessage("3");
+        assertEquals(1, receiver.getDroppedMessages());
+
+        executor.runAll();
+        assertEquals(List.of("1", "2"), messages);
+
+        // there is room again once the pending messages have been passed to the delegate
+        receiver.logMessage("4");
+        executor.runAll();
+        assertEquals(List.of("1", "2", "4"), messages);
+        assertEquals(1, receiver.getDroppedMessages());
+    }
+
+    @Test
+    public void testMdcIsRestoredInTheBackground() {
+        List<String> messages = new ArrayList<>();
+        ManualExecutor executor = new ManualExecutor();
+        AsyncAccessLogReceiver receiver = new AsyncAccessLogReceiver(
+                message -> messages.add(message + " " + MDC.get("traceId")), executor, 10);
+
+        MDC.put("traceId", "1234");
+        try {
+            receiver.logMessage("1");
+        } finally {
+            MDC.remove("traceId");
+        }
+        receiver.logMessage("2");
+
+        executor.runAll();
+        assertEquals(List.of("1 1234", "2 null"), messages);
+        assertNull(MDC.get("traceId"));
+    }
+
+    static class ManualExecutor implements Executor {
+
+        final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+}
@@ -86,17 +86,19 @@ public Uni<Void> sendBinary(Buffer message) {
 
     @Override
     public <M> Uni<Void> sendText(M message) {
-        String text;
+        return sendText(encodeText(message));
+    }
+
+    <M> String encodeText(M message) {
         // Use the same conversion rules as defined for the OnTextMessage
         if (message instanceof JsonObject || message instanceof JsonArray || message instanceof BufferImpl
                 || message instanceof NoBoundChecksBuffer) {
-            text = message.toString();
+            return message.toString();
         } else if (message.getClass().isArray() && message.getClass().arrayType().equals(byte.class)) {
-            text = Buffer.buffer((byte[]) message).toString();
+            return Buffer.buffer((byte[]) message).toString();
         } else {
-            text = codecs.textEncode(message, null);
+            return codecs.textEncode(message, null);
         }
-        return sendText(text);
     }
 
     @Override
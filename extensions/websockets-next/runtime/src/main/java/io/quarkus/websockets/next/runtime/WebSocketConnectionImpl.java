@@ -172,12 +172,6 @@ public Uni<Void> apply(WebSocketConnection c, String s) {
                 return c.sendText(s);
             }
         };
-        private static final BiFunction<WebSocketConnection, Object, Uni<Void>> SEND_TEXT_POJO = new BiFunction<>() {
-            @Override
-            public Uni<Void> apply(WebSocketConnection c, Object o) {
-                return c.sendText(o);
-            }
-        };
         private static final BiFunction<WebSocketConnection, Buffer, Uni<Void>> SEND_BINARY = new BiFunction<>() {
             @Override
             public Uni<Void> apply(WebSocketConnection c, Buffer b) {
@@ -203,7 +197,11 @@ public Uni<Void> sendText(String message) {
 
         @Override
         public <M> Uni<Void> sendText(M message) {
-            return doSend(SEND_TEXT_POJO, message);
+            if (connectionManager.getConnections(generatedEndpointClass).isEmpty()) {
+                return Uni.createFrom().voidItem();
+            }
+            // Encode the message once, not for each connection
+            return doSend(SEND_TEXT_STR, encodeText(message));
         }
 
         @Override
@@ -30,4 +30,17 @@ static CompletionStage<Object> toCompletionStage(Object result) {
         }
         return CompletedStage.of(result);
     }
+
+    /**
+     *
+     * @param result
+     * @param completed the completed stage holding the result, may be {@code null}
+     * @return the completion stage for the given result, {@code completed} is reused if possible
+     */
+    static CompletionStage<Object> toCompletionStage(Object result, CompletedStage<Object> completed) {
+        if (completed == null || result instanceof CompletionStage || result instanceof AbstractUni) {
+            return toCompletionStage(result);
+        }
+        return completed;
+    }
 }
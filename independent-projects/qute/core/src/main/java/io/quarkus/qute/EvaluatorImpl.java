@@ -131,8 +131,17 @@ private CompletionStage<Object> resolveReference(boolean tryParent, Object ref,
             return resolve(evalContext, null, true, expression, true, partIndex);
         } else {
             // Next part - no need to try the parent context/outer scope
-            return resolve(evalContext, null, true, expression, false, partIndex)
-                    .thenCompose(r -> resolveReference(false, r, parts, resolutionContext, expression, partIndex + 1));
+            CompletionStage<Object> resolved = resolve(evalContext, null, true, expression, false, partIndex);
+            if (isCompletedSuccessfully(resolved)) {
+                // Synchronous fast path - no need to allocate the composing function
+                try {
+                    return resolveReference(false, ((CompletedStage<Object>) resolved).get(), parts, resolutionContext,
+                            expression, partIndex + 1);
+                } catch (Throwable e) {
+                    return CompletedStage.failure(e);
+                }
+            }
+            return resolved.thenCompose(r -> resolveReference(false, r, parts, resolutionContext, expression, partIndex + 1));
         }
     }
 
@@ -143,13 +152,18 @@ private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<Va
             // Try the cached resolver first
             ValueResolver cached = evalContext.getCachedResolver();
             if (cached != null && cached.appliesTo(evalContext)) {
-                return cached.resolve(evalContext).thenCompose(r -> {
-                    if (Results.isNotFound(r)) {
-                        return resolve(evalContext, null, false, expression, isLastPart, partIndex);
-                    } else {
-                        return CompletionStageSupport.toCompletionStage(r);
+                CompletionStage<Object> resolved = cached.resolve(evalContext);
+                if (isCompletedSuccessfully(resolved)) {
+                    // Synchronous fast path - no need to allocate the composing function
+                    try {
+                        return processResult((CompletedStage<Object>) resolved, ((CompletedStage<Object>) resolved).get(),
+                                evalContext, null, null, expression, isLastPart, partIndex);
+                    } catch (Throwable e) {
+                        return CompletedStage.failure(e);
                     }
-                });
+                }
+                return resolved.thenCompose(
+                        r -> processResult(null, r, evalContext, null, null, expression, isLastPart, partIndex));
             }
         }
 
@@ -208,16 +222,48 @@ private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<Va
 
         final Iterator<ValueResolver> remainingResolvers = resolvers;
         final ValueResolver foundResolver = applicableResolver;
-        return applicableResolver.resolve(evalContext).thenCompose(r -> {
-            if (Results.isNotFound(r)) {
-                // Result not found - try the next resolver
-                return resolve(evalContext, remainingResolvers, false, expression, isLastPart, partIndex);
-            } else {
-                // Cache the first resolver where a result is found
-                evalContext.setCachedResolver(foundResolver.getCachedResolver(evalContext));
-                return CompletionStageSupport.toCompletionStage(r);
+        CompletionStage<Object> resolved = applicableResolver.resolve(evalContext);
+        if (isCompletedSuccessfully(resolved)) {
+            // Synchronous fast path - no need to allocate the composing function
+            try {
+                return processResult((CompletedStage<Object>) resolved, ((CompletedStage<Object>) resolved).get(), evalContext,
+                        remainingResolvers, foundResolver, expression, isLastPart, partIndex);
+            } catch (Throwable e) {
+                return CompletedStage.failure(e);
             }
-        });
+        }
+        return resolved.thenCompose(r -> processResult(null, r, evalContext, remainingResolvers, foundResolver, expression,
+                isLastPart, partIndex));
+    }
+
+    /**
+     *
+     * @param resolved the completed stage holding the result, or {@code null} if not available
+     * @param result
+     * @param evalContext
+     * @param remainingResolvers the resolvers to try if the result is not found, {@code null} to try all resolvers
+     * @param foundResolver the resolver to cache if the result is found, {@code null} if nothing should be cached
+     * @param expression
+     * @param isLastPart
+     * @param partIndex
+     * @return the result
+     */
+    private CompletionStage<Object> processResult(CompletedStage<Object> resolved, Object result,
+            EvalContextImpl evalContext, Iterator<ValueResolver> remainingResolvers, ValueResolver foundResolver,
+            Expression expression, boolean isLastPart, int partIndex) {
+        if (Results.isNotFound(result)) {
+            // Result not found - try the next resolver
+            return resolve(evalContext, remainingResolvers, false, expression, isLastPart, partIndex);
+        }
+        if (foundResolver != null) {
+            // Cache the first resolver where a result is found
+            evalContext.setCachedResolver(foundResolver.getCachedResolver(evalContext));
+        }
+        return CompletionStageSupport.toCompletionStage(result, resolved);
+    }
+
+    private static boolean isCompletedSuccessfully(CompletionStage<Object> stage) {
+        return stage instanceof CompletedStage && !((CompletedStage<Object>) stage).isFailure();
     }
 
     private TemplateException propertyNotFound(Object result, Expression expression) {
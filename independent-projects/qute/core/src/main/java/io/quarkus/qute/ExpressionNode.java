@@ -33,7 +33,12 @@ public CompletionStage<ResultNode> resolve(ResolutionContext context) {
         if (traceLevel) {
             LOG.tracef("Resolve {%s} started:%s", expression.toOriginalString(), expression.getOrigin());
         }
-        return context.evaluate(expression).thenCompose(this::toResultNode);
+        CompletionStage<Object> result = context.evaluate(expression);
+        if (result instanceof CompletedStage && !((CompletedStage<Object>) result).isFailure()) {
+            // Synchronous fast path - no need to allocate the composing function
+            return toResultNode(((CompletedStage<Object>) result).get());
+        }
+        return result.thenCompose(this::toResultNode);
     }
 
     @Override
@@ -75,6 +75,11 @@ public class QuarkusRestClientProperties {
      */
     public static final String HTTP2 = "io.quarkus.rest.client.http2";
 
+    /**
+     * The maximum number of concurrent streams of an HTTP/2 connection.
+     */
+    public static final String HTTP2_MULTIPLEXING_LIMIT = "io.quarkus.rest.client.http2-multiplexing-limit";
+
     /**
      * Set to true to explicitly use the Application-Layer Protocol Negotiation extension.
      */
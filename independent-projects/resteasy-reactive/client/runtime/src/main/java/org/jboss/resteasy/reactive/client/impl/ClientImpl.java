@@ -4,6 +4,7 @@
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECTION_POOL_SIZE;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECTION_TTL;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.CONNECT_TIMEOUT;
+import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.HTTP2_MULTIPLEXING_LIMIT;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.KEEP_ALIVE_ENABLED;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_HEADER_SIZE;
 import static org.jboss.resteasy.reactive.client.api.QuarkusRestClientProperties.MAX_INITIAL_LINE_LENGTH;
@@ -166,6 +167,11 @@ public Vertx get() {
         options.setMaxPoolSize((int) connectionPoolSize);
         options.setHttp2MaxPoolSize((int) connectionPoolSize);
 
+        Object http2MultiplexingLimit = configuration.getProperty(HTTP2_MULTIPLEXING_LIMIT);
+        if (http2MultiplexingLimit != null) {
+            options.setHttp2MultiplexingLimit((int) http2MultiplexingLimit);
+        }
+
         Object keepAliveEnabled = configuration.getProperty(KEEP_ALIVE_ENABLED);
         if (keepAliveEnabled != null) {
             Boolean enabled = (Boolean) keepAliveEnabled;
@@ -61,7 +61,9 @@ public static void doLegacyWrite(Object o, Annotation[] annotations, Multivalued
                     }
                 }
             }
-            entityStream.write(defaultWriter.writeValueAsString(o).getBytes(StandardCharsets.UTF_8));
+            // serialize to bytes directly instead of going through a String, but not into the entity stream itself:
+            // nothing must be written if the serialization fails
+            entityStream.write(defaultWriter.writeValueAsBytes(o));
         }
     }
 
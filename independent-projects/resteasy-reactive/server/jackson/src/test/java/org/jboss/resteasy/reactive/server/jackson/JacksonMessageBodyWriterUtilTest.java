@@ -0,0 +1,76 @@
+package org.jboss.resteasy.reactive.server.jackson;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.jboss.resteasy.reactive.common.util.QuarkusMultivaluedHashMap;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class JacksonMessageBodyWriterUtilTest {
+
+    @Test
+    public void shouldWriteEntityWithoutClosingTheStream() throws IOException {
+        TrackingOutputStream entityStream = new TrackingOutputStream();
+        // the writer of a mapper which has not been configured by createDefaultWriter closes the target by default
+        JacksonMessageBodyWriterUtil.doLegacyWrite(new Greeting("hello"), null, new QuarkusMultivaluedHashMap<>(),
+                entityStream, new ObjectMapper().writer());
+
+        assertThat(entityStream.toString(StandardCharsets.UTF_8)).isEqualTo("{\"message\":\"hello\"}");
+        assertThat(entityStream.closed).isFalse();
+        assertThat(entityStream.flushed).isFalse();
+    }
+
+    @Test
+    public void shouldNotWritePartialEntityOnFailure() {
+        TrackingOutputStream entityStream = new TrackingOutputStream();
+        assertThatThrownBy(() -> JacksonMessageBodyWriterUtil.doLegacyWrite(new Failing(), null,
+                new QuarkusMultivaluedHashMap<>(), entityStream,
+                JacksonMessageBodyWriterUtil.createDefaultWriter(new ObjectMapper())))
+                .isInstanceOf(JsonMappingException.class);
+
+        assertThat(entityStream.size()).isZero();
+    }
+
+    public static class Greeting {
+
+        public String message;
+
+        public Greeting(String message) {
+            this.message = message;
+        }
+    }
+
+    public static class Failing {
+
+        public String getFirst() {
+            return "first";
+        }
+
+        public String getSecond() {
+            throw new IllegalStateException("failure");
+        }
+    }
+
+    static class TrackingOutputStream extends ByteArrayOutputStream {
+
+        boolean closed;
+        boolean flushed;
+
+        @Override
+        public void flush() {
+            flushed = true;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
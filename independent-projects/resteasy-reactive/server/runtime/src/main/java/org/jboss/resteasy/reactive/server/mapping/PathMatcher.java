@@ -42,12 +42,12 @@ PathMatch<T> match(String path) {
             if (pathLength == length) {
                 SubstringMap.SubstringMatch<T> next = paths.get(path, length);
                 if (next != null) {
-                    return new PathMatch<>(path, "", next.getValue());
+                    return new PathMatch<>(path, path, length, next.getValue());
                 }
             } else if (pathLength < length) {
                 SubstringMap.SubstringMatch<T> next = paths.get(path, pathLength);
                 if (next != null) {
-                    return new PathMatch<>(next.getKey(), path.substring(pathLength), next.getValue());
+                    return new PathMatch<>(next.getKey(), path, pathLength, next.getValue());
                 }
             }
         }
@@ -55,7 +55,7 @@ PathMatch<T> match(String path) {
     }
 
     PathMatch<T> defaultMatch(String path) {
-        return new PathMatch<>("/", path, defaultHandler);
+        return new PathMatch<>("/", path, 0, defaultHandler);
     }
 
     static class Builder<T> {
@@ -119,17 +119,28 @@ public PathMatcher<T> build() {
 
     public static final class PathMatch<T> {
         private final String matched;
-        private final String remaining;
+        private final String path;
+        private final int remainingStart;
         private final T value;
 
-        public PathMatch(String matched, String remaining, T value) {
+        /**
+         * @param matched the matched prefix
+         * @param path the full path
+         * @param remainingStart the index in {@code path} at which the unmatched remainder starts
+         * @param value the matched value
+         */
+        public PathMatch(String matched, String path, int remainingStart, T value) {
             this.matched = matched;
-            this.remaining = remaining;
+            this.path = path;
+            this.remainingStart = remainingStart;
             this.value = value;
         }
 
+        /**
+         * The remainder is computed lazily as it's not needed by the request mapping itself.
+         */
         public String getRemaining() {
-            return remaining;
+            return remainingStart == path.length() ? "" : path.substring(remainingStart);
         }
 
         public String getMatched() {
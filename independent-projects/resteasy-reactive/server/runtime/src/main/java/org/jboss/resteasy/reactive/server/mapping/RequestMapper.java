@@ -59,9 +59,11 @@ private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<Ar
             return null;
         }
         int pathLength = path.length();
+        // the params array is shared by all the candidates, values written by a candidate that did not match
+        // are either overwritten or cleared below
+        String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
         for (int index = 0; index < ((List<RequestPath<T>>) value).size(); index++) {
             RequestPath<T> potentialMatch = ((List<RequestPath<T>>) value).get(index);
-            String[] params = (maxParams > 0) ? new String[maxParams] : EMPTY_STRING_ARRAY;
             int paramCount = 0;
             boolean matched = true;
             boolean prefixAllowed = potentialMatch.prefixTemplate;
@@ -114,9 +116,6 @@ private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<Ar
             if (!matched) {
                 continue;
             }
-            if (paramCount < params.length) {
-                params[paramCount] = null;
-            }
             boolean fullMatch = matchPos == pathLength;
             boolean doPrefixMatch = false;
             if (!fullMatch) {
@@ -128,6 +127,9 @@ private RequestMatch<T> mapFromPathMatcher(String path, PathMatcher.PathMatch<Ar
                 }
             }
             if (fullMatch || doPrefixMatch) {
+                if (paramCount < params.length) {
+                    Arrays.fill(params, paramCount, params.length, null);
+                }
                 String remaining;
                 if (fullMatch) {
                     remaining = "";